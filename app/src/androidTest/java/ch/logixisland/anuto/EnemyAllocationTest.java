@@ -0,0 +1,54 @@
+package ch.logixisland.anuto;
+
+import android.os.Debug;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.SmallTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import ch.logixisland.anuto.engine.logic.map.MapPath;
+import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.entity.enemy.Soldier;
+import ch.logixisland.anuto.util.math.Vector2;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(AndroidJUnit4.class)
+@SmallTest
+public class EnemyAllocationTest {
+
+    private static final int WARMUP_TICKS = 10;
+    private static final int MEASURED_TICKS = 100;
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void steadyStateTickDoesNotAllocate() {
+        GameFactory gameFactory = new GameFactory(InstrumentationRegistry.getInstrumentation().getTargetContext(), true);
+        Enemy enemy = (Enemy) gameFactory.getEntityRegistry().createEntity(Soldier.ENTITY_NAME);
+
+        // long enough that the enemy does not reach the end of the path while measuring
+        MapPath path = new MapPath(Arrays.asList(new Vector2(0, 0), new Vector2(0, 100)));
+        enemy.setPosition(path.getWayPoints().get(0));
+        enemy.setupPath(path);
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            enemy.tick();
+        }
+
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            enemy.tick();
+        }
+
+        Debug.stopAllocCounting();
+
+        assertEquals(0, Debug.getThreadAllocCount());
+    }
+}
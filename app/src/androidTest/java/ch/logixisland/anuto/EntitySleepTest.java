@@ -0,0 +1,203 @@
+package ch.logixisland.anuto;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.SmallTest;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(AndroidJUnit4.class)
+@SmallTest
+public class EntitySleepTest {
+
+    private static final int TYPE_WAITER = 3;
+    private static final int TYPE_SPAWNED = 2;
+    private static final int TYPE_OTHER = 4;
+
+    private static final int RANDOM_ENTITIES = 500;
+    private static final int RANDOM_TICKS = 2000;
+
+    private final EntityStore mEntityStore = new EntityStore();
+    private int mTick;
+
+    private class TestEntity extends Entity {
+        private final int mType;
+        final List<Integer> mTickedAt = new ArrayList<>();
+        int mSleptTotal;
+
+        TestEntity(int type) {
+            super(null);
+            mType = type;
+        }
+
+        @Override
+        public int getEntityType() {
+            return mType;
+        }
+
+        @Override
+        public void tick() {
+            mTickedAt.add(mTick);
+            mSleptTotal += getSleptTicks();
+            ticked();
+        }
+
+        void ticked() {
+
+        }
+    }
+
+    @Test
+    public void sleepingEntityWakesAtScheduledTick() {
+        TestEntity entity = new TestEntity(TYPE_WAITER);
+        mEntityStore.add(entity);
+        tick();
+        mEntityStore.sleep(entity, 5);
+
+        tick(4);
+        assertEquals(1, entity.mTickedAt.size());
+        assertTrue(entity.isSleeping());
+
+        tick();
+        assertEquals(6, (int) entity.mTickedAt.get(1));
+        assertEquals(4, entity.mSleptTotal);
+    }
+
+    @Test
+    public void wokenEntityTicksWithNextTick() {
+        TestEntity entity = new TestEntity(TYPE_WAITER);
+        mEntityStore.add(entity);
+        tick();
+        mEntityStore.sleep(entity, 0);
+
+        tick(10);
+        mEntityStore.wake(entity);
+        assertEquals(1, entity.mTickedAt.size());
+
+        tick();
+        assertFalse(entity.isSleeping());
+        assertEquals(12, (int) entity.mTickedAt.get(1));
+        assertEquals(10, entity.mSleptTotal);
+    }
+
+    @Test
+    public void waiterWakesWhenTypeIsAdded() {
+        TestEntity waiter = new TestEntity(TYPE_WAITER);
+        mEntityStore.add(waiter);
+        tick();
+        mEntityStore.sleepUntilAdded(waiter, TYPE_SPAWNED);
+
+        mEntityStore.add(new TestEntity(TYPE_OTHER));
+        tick(3);
+        assertEquals(1, waiter.mTickedAt.size());
+
+        mEntityStore.add(new TestEntity(TYPE_SPAWNED));
+        tick();
+        assertEquals(5, (int) waiter.mTickedAt.get(1));
+        assertEquals(3, waiter.mSleptTotal);
+    }
+
+    // every entity ticks exactly when it is due and accounts for every tick it was in game
+    @Test
+    public void randomSleepsKeepWakeOrder() {
+        List<RandomEntity> entities = new ArrayList<>();
+
+        for (int i = 0; i < RANDOM_ENTITIES; i++) {
+            RandomEntity entity = new RandomEntity(i % 2 == 0 ? TYPE_WAITER : TYPE_OTHER, i);
+            entities.add(entity);
+            mEntityStore.add(entity);
+        }
+
+        for (int i = 1; i <= RANDOM_TICKS; i++) {
+            tick();
+
+            if (mTick % 100 == 0) {
+                TestEntity spawned = new TestEntity(TYPE_SPAWNED);
+                mEntityStore.add(spawned);
+                mEntityStore.remove(spawned);
+
+                for (RandomEntity entity : entities) {
+                    if (entity.mDueTick == RandomEntity.WAITING) {
+                        entity.mDueTick = mTick + 1;
+                    }
+                }
+            }
+
+            if (mTick % 37 == 0) {
+                RandomEntity entity = entities.get(mTick % RANDOM_ENTITIES);
+
+                if (entity.isSleeping()) {
+                    mEntityStore.wake(entity);
+                    entity.mDueTick = mTick + 1;
+                }
+            }
+        }
+
+        for (RandomEntity entity : entities) {
+            assertEquals(0, entity.mMissedTicks);
+            assertEquals(RANDOM_TICKS, entity.mTickedAt.size() + entity.mSleptTotal + entity.pendingSleptTicks());
+        }
+    }
+
+    private class RandomEntity extends TestEntity {
+        static final int WAITING = -1;
+
+        private final Random mRandom;
+        private int mDueTick = 1;
+        private int mMissedTicks;
+        private int mLastTick;
+
+        RandomEntity(int type, long seed) {
+            super(type);
+            mRandom = new Random(seed);
+        }
+
+        @Override
+        void ticked() {
+            if (mTick != mDueTick) {
+                mMissedTicks++;
+            }
+
+            mLastTick = mTick;
+            int decision = mRandom.nextInt(5);
+
+            if (decision >= 2) {
+                mEntityStore.sleep(this, decision);
+                mDueTick = mTick + decision;
+            } else if (decision == 1 && getEntityType() == TYPE_WAITER) {
+                mEntityStore.sleepUntilAdded(this, TYPE_SPAWNED);
+                mDueTick = WAITING;
+            } else {
+                mDueTick = mTick + 1;
+            }
+        }
+
+        // ticks skipped by a sleep that has not ended yet
+        int pendingSleptTicks() {
+            return mTick - mLastTick;
+        }
+    }
+
+    private void tick() {
+        mTick++;
+        mEntityStore.tick();
+        mEntityStore.compact();
+    }
+
+    private void tick(int count) {
+        for (int i = 0; i < count; i++) {
+            tick();
+        }
+    }
+}
@@ -11,12 +11,14 @@ import ch.logixisland.anuto.engine.render.PathDrawable;
 import ch.logixisland.anuto.business.game.CoinManager;
 import ch.logixisland.anuto.business.game.ShopManager;
 import ch.logixisland.anuto.business.game.ShopRepository;
+import ch.logixisland.anuto.business.game.GameDataSource;
 import ch.logixisland.anuto.business.game.GameLoader;
 import ch.logixisland.anuto.business.game.GameSaver;
 import ch.logixisland.anuto.business.game.GameSpeed;
 import ch.logixisland.anuto.business.game.GameState;
 import ch.logixisland.anuto.business.game.HighScores;
 import ch.logixisland.anuto.business.game.MapRepository;
+import ch.logixisland.anuto.business.game.ResourceGameDataSource;
 import ch.logixisland.anuto.business.game.SaveGameRepository;
 import ch.logixisland.anuto.business.game.ScoreBoard;
 import ch.logixisland.anuto.business.game.TutorialControl;
@@ -29,6 +31,8 @@ import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
 import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
+import ch.logixisland.anuto.engine.logic.loop.GameMetrics;
+import ch.logixisland.anuto.engine.logic.loop.MetricsManager;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
 import ch.logixisland.anuto.engine.logic.persistence.GamePersister;
@@ -38,7 +42,9 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.sound.SoundManager;
 import ch.logixisland.anuto.engine.theme.ThemeManager;
+import ch.logixisland.anuto.entity.effect.AreaService;
 import ch.logixisland.anuto.entity.enemy.Blob;
+import ch.logixisland.anuto.entity.enemy.EnemyPathIndex;
 import ch.logixisland.anuto.entity.enemy.Flyer;
 import ch.logixisland.anuto.entity.enemy.Healer;
 import ch.logixisland.anuto.entity.enemy.Soldier;
@@ -56,6 +62,7 @@ import ch.logixisland.anuto.entity.tower.Mortar;
 import ch.logixisland.anuto.entity.tower.RocketLauncher;
 import ch.logixisland.anuto.entity.tower.SimpleLaser;
 import ch.logixisland.anuto.entity.tower.StraightLaser;
+import ch.logixisland.anuto.entity.tower.TargetingService;
 import ch.logixisland.anuto.entity.tower.Teleporter;
 
 import java.util.List;
@@ -69,6 +76,8 @@ public class GameFactory {
     private SoundFactory mSoundFactory;
     private Viewport mViewport;
     private FrameRateLogger mFrameRateLogger;
+    private GameMetrics mGameMetrics;
+    private MetricsManager mMetricsManager;
     private EntityStore mEntityStore;
     private MessageQueue mMessageQueue;
     private Renderer mRenderer;
@@ -102,27 +111,43 @@ public class GameFactory {
     private PathDrawable mPathDrawable;
 
     public GameFactory(Context context) {
+        this(context, false);
+    }
+
+    // a headless factory is used for simulations: nothing is drawn and no sound is played
+    public GameFactory(Context context, boolean headless) {
+        this(context, new ResourceGameDataSource(context.getResources()), headless);
+    }
+
+    public GameFactory(Context context, GameDataSource gameDataSource, boolean headless) {
         PreferenceManager.setDefaultValues(context, R.xml.settings, false);
 
-        initializeEngine(context);
+        initializeEngine(context, headless);
         registerEntities();
-        initializeBusiness(context);
+        initializeBusiness(context, gameDataSource);
         registerPersisters();
     }
 
-    private void initializeEngine(Context context) {
+    private void initializeEngine(Context context, boolean headless) {
         mViewport = new Viewport();
         mEntityStore = new EntityStore();
+        mEntityStore.setSenseWorkerCount(Math.min(GameSettings.MAX_SENSE_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
         mMessageQueue = new MessageQueue();
         mGamePersister = new GamePersister();
-        mFrameRateLogger = new FrameRateLogger();
-        mRenderer = new Renderer(mViewport, mFrameRateLogger);
-        mGameLoop = new GameLoop(mRenderer, mFrameRateLogger, mMessageQueue, mEntityStore);
+        mGameMetrics = new GameMetrics();
+        mFrameRateLogger = new FrameRateLogger(mGameMetrics);
+        mRenderer = new Renderer(mViewport, mFrameRateLogger, mGameMetrics);
+        mGameLoop = new GameLoop(mRenderer, mFrameRateLogger, mMessageQueue, mEntityStore, mGameMetrics);
         mThemeManager = new ThemeManager(context, mRenderer);
         mSoundManager = new SoundManager(context);
-        mSpriteFactory = new SpriteFactory(context, mThemeManager);
-        mSoundFactory = new SoundFactory(context, mSoundManager);
+        mMetricsManager = new MetricsManager(context, mGameMetrics);
+        mSpriteFactory = new SpriteFactory(context, mThemeManager, headless);
+        mSoundFactory = new SoundFactory(context, mSoundManager, headless);
         mGameEngine = new GameEngine(mSpriteFactory, mThemeManager, mSoundFactory, mEntityStore, mMessageQueue, mRenderer, mGameLoop);
+        EnemyPathIndex enemyPathIndex = new EnemyPathIndex(mGameEngine);
+        mGameEngine.addService(enemyPathIndex);
+        mGameEngine.addService(new TargetingService(mGameEngine, enemyPathIndex));
+        mGameEngine.addService(new AreaService());
         mEntityRegistry = new EntityRegistry(mGameEngine);
     }
 
@@ -151,14 +176,14 @@ public class GameFactory {
         mEntityRegistry.registerEntity(new MakotoDolphin.Factory(), new MakotoDolphin.Persister());
     }
 
-    private void initializeBusiness(Context context) {
+    private void initializeBusiness(Context context, GameDataSource gameDataSource) {
         mMapRepository = new MapRepository();
         mSaveGameRepository = new SaveGameRepository(context);
         mScoreBoard = new ScoreBoard(mGameEngine);
         mTowerAging = new TowerAging(mGameEngine);
         mSpeedManager = new GameSpeed(mGameEngine);
         mTowerSelector = new TowerSelector(mGameEngine, mScoreBoard);
-        mGameLoader = new GameLoader(context, mGameEngine, mGamePersister, mViewport, mEntityRegistry, mMapRepository, mSaveGameRepository);
+        mGameLoader = new GameLoader(gameDataSource, mGameEngine, mGamePersister, mViewport, mEntityRegistry, mMapRepository, mSaveGameRepository);
         mHighScores = new HighScores(context, mGameEngine, mScoreBoard, mGameLoader);
 
         // 新增：创建商店系统组件
@@ -191,7 +216,7 @@ public class GameFactory {
             List<MapPath> paths = mGameEngine.getGameMap().getPaths();
             Log.d("GameFactory", "Initializing path drawable with " + paths.size() + " paths");
 
-            mPathDrawable = new PathDrawable(paths);
+            mPathDrawable = new PathDrawable(paths, mRenderer);
             mRenderer.add(mPathDrawable);
             mWaveManager.setPathDrawable(mPathDrawable);
 
@@ -221,6 +246,14 @@ public class GameFactory {
         return mRenderer;
     }
 
+    public GameMetrics getGameMetrics() {
+        return mGameMetrics;
+    }
+
+    public MetricsManager getMetricsManager() {
+        return mMetricsManager;
+    }
+
     public GameEngine getGameEngine() {
         return mGameEngine;
     }
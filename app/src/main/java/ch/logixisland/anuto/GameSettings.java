@@ -25,6 +25,8 @@ public final class GameSettings {
     public static final float STRONG_AGAINST_DAMAGE_MODIFIER = 0.33f;
     public static final float MIN_SPEED_MODIFIER = 0.05f;
 
+    public static final int MAX_SENSE_WORKERS = 3;
+
     public static final String[] BUILD_MENU_TOWER_NAMES = {
             Canon.ENTITY_NAME,
             SimpleLaser.ENTITY_NAME,
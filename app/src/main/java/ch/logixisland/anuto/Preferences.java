@@ -9,5 +9,6 @@ public final class Preferences {
     public static final String THEME_INDEX = "theme_index";
     public static final String SOUND_ENABLED = "sound_enabled";
     public static final String TUTORIAL_ENABLED = "tutorial_enabled";
+    public static final String METRICS_ENABLED = "metrics_enabled";
 
 }
@@ -0,0 +1,11 @@
+package ch.logixisland.anuto.business.game;
+
+import ch.logixisland.anuto.util.container.KeyValueStore;
+
+// Provides the map and wave data of a game. The app reads them from its raw resources, tools
+// running without Android resources may read the same files from disk.
+public interface GameDataSource {
+    KeyValueStore getMapData(MapInfo mapInfo);
+
+    KeyValueStore getWaveData();
+}
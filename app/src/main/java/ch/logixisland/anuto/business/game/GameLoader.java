@@ -1,6 +1,5 @@
 package ch.logixisland.anuto.business.game;
 
-import android.content.Context;
 import android.util.Log;
 
 import java.io.File;
@@ -9,7 +8,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
-import ch.logixisland.anuto.R;
 import ch.logixisland.anuto.GameFactory;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.EntityRegistry;
@@ -30,7 +28,7 @@ public class GameLoader implements ErrorListener {
         void gameLoaded();
     }
 
-    private final Context mContext;
+    private final GameDataSource mGameDataSource;
     private final GameEngine mGameEngine;
     private final GamePersister mGamePersister;
     private final Viewport mViewport;
@@ -42,19 +40,20 @@ public class GameLoader implements ErrorListener {
     // 新增：GameFactory引用
     private GameFactory mGameFactory;
 
-    private final SaveGameMigrator mSaveGameMigrator = new SaveGameMigrator();
+    private final SaveGameMigrator mSaveGameMigrator;
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
-    public GameLoader(Context context, GameEngine gameEngine, GamePersister gamePersister,
+    public GameLoader(GameDataSource gameDataSource, GameEngine gameEngine, GamePersister gamePersister,
                       Viewport viewport, EntityRegistry entityRegistry, MapRepository mapRepository,
                       SaveGameRepository saveGameRepository) {
-        mContext = context;
+        mGameDataSource = gameDataSource;
         mGameEngine = gameEngine;
         mGamePersister = gamePersister;
         mViewport = viewport;
         mEntityRegistry = entityRegistry;
         mMapRepository = mapRepository;
         mSaveGameRepository = saveGameRepository;
+        mSaveGameMigrator = new SaveGameMigrator(this::loadGameMap);
 
         mGameEngine.registerErrorListener(this);
     }
@@ -109,10 +108,8 @@ public class GameLoader implements ErrorListener {
         Log.i(TAG, "Loading game...");
         KeyValueStore gameState;
 
-        try {
-            FileInputStream inputStream = new FileInputStream(stateFile);
+        try (FileInputStream inputStream = new FileInputStream(stateFile)) {
             gameState = KeyValueStore.fromStream(inputStream);
-            inputStream.close();
         } catch (Exception e) {
             throw new RuntimeException("Could not load game!", e);
         }
@@ -141,11 +138,10 @@ public class GameLoader implements ErrorListener {
         Log.d(TAG, "Initializing game...");
         mGameEngine.clear();
 
-        MapInfo mapInfo = mMapRepository.getMapById(mapId);
-        GameMap map = new GameMap(KeyValueStore.fromResources(mContext.getResources(), mapInfo.getMapDataResId()));
+        GameMap map = loadGameMap(mapId);
         mGameEngine.setGameMap(map);
 
-        KeyValueStore waveData = KeyValueStore.fromResources(mContext.getResources(), R.raw.waves);
+        KeyValueStore waveData = mGameDataSource.getWaveData();
         List<WaveInfo> waveInfos = new ArrayList<>();
         for (KeyValueStore data : waveData.getStoreList("waves")) {
             waveInfos.add(new WaveInfo(data));
@@ -173,6 +169,11 @@ public class GameLoader implements ErrorListener {
         Log.d(TAG, "Game loaded.");
     }
 
+    private GameMap loadGameMap(String mapId) {
+        MapInfo mapInfo = mMapRepository.getMapById(mapId);
+        return new GameMap(mGameDataSource.getMapData(mapInfo));
+    }
+
     private void initializeMap(GameMap map) {
         for (PlateauInfo info : map.getPlateaus()) {
             Plateau plateau = (Plateau) mEntityRegistry.createEntity(info.getName());
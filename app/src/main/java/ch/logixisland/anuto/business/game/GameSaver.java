@@ -9,11 +9,12 @@ import ch.logixisland.anuto.business.wave.WaveManager;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.persistence.GamePersister;
 import ch.logixisland.anuto.engine.render.Renderer;
-import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.container.KeyValueWriter;
 
 public class GameSaver {
 
     private static final String TAG = GameSaver.class.getSimpleName();
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
 
     private final GameEngine mGameEngine;
     private final GameLoader mGameLoader;
@@ -59,20 +60,35 @@ public class GameSaver {
         return saveGameInfo;
     }
 
+    // the state is streamed into a temporary file which then replaces the old state file; it is
+    // synced to disk first, otherwise the rename can survive a crash while the data does not
     void saveGameState(File stateFile) {
         Log.i(TAG, "Saving game...");
-        KeyValueStore gameState = new KeyValueStore();
-        mGamePersister.writeState(gameState);
-        gameState.putInt("version", SaveGameMigrator.SAVE_GAME_VERSION);
-        gameState.putString("mapId", mGameLoader.getCurrentMapId());
-
-        try {
-            FileOutputStream outputStream = new FileOutputStream(stateFile, false);
-            gameState.toStream(outputStream);
-            outputStream.close();
-            Log.i(TAG, "Game saved.");
+        File tempFile = new File(stateFile.getPath() + TEMP_FILE_SUFFIX);
+
+        try (FileOutputStream outputStream = new FileOutputStream(tempFile, false);
+             KeyValueWriter writer = KeyValueWriter.createBinaryWriter(outputStream)) {
+            writeGameState(writer);
+            writer.flush();
+            outputStream.getFD().sync();
         } catch (Exception e) {
+            tempFile.delete();
             throw new RuntimeException("Could not save game!", e);
         }
+
+        if (!tempFile.renameTo(stateFile)) {
+            tempFile.delete();
+            throw new RuntimeException("Could not save game!");
+        }
+
+        Log.i(TAG, "Game saved.");
+    }
+
+    private void writeGameState(KeyValueWriter writer) {
+        writer.beginStore();
+        mGamePersister.writeState(writer);
+        writer.putInt("version", SaveGameMigrator.SAVE_GAME_VERSION);
+        writer.putString("mapId", mGameLoader.getCurrentMapId());
+        writer.endStore();
     }
 }
@@ -4,11 +4,16 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.GameLoop;
+import ch.logixisland.anuto.engine.logic.loop.SpeedListener;
 
-public class GameSpeed {
+public class GameSpeed implements SpeedListener {
     private static final int MIN_FAST_FORWARD_SPEED = 2;
     private static final int MAX_FAST_FORWARD_SPEED = 32;
 
+    // runs as many ticks as fit into the frame time
+    private static final int MAX_SPEED = GameLoop.MAX_TICKS_PER_LOOP;
+
     public interface Listener {
         void gameSpeedChanged();
     }
@@ -18,9 +23,11 @@ public class GameSpeed {
 
     private boolean mFastForwardActive = false;
     private int mFastForwardMultiplier = MIN_FAST_FORWARD_SPEED;
+    private volatile int mEffectiveSpeed = 1;
 
     public GameSpeed(GameEngine gameEngine) {
         mGameEngine = gameEngine;
+        mGameEngine.registerSpeedListener(this);
     }
 
     public boolean isFastForwardActive() {
@@ -43,13 +50,29 @@ public class GameSpeed {
         return mFastForwardMultiplier;
     }
 
+    public boolean isMaxSpeed() {
+        return mFastForwardMultiplier == MAX_SPEED;
+    }
+
+    // the speed actually reached, which can be lower than requested if ticks get too expensive;
+    // 0 while it was not measured yet
+    public int getEffectiveSpeed() {
+        return mEffectiveSpeed;
+    }
+
     public void cycleFastForward() {
         if (mGameEngine.isThreadChangeNeeded()) {
             mGameEngine.post(this::cycleFastForward);
             return;
         }
 
-        mFastForwardMultiplier = mFastForwardMultiplier < MAX_FAST_FORWARD_SPEED ? mFastForwardMultiplier * 2 : MIN_FAST_FORWARD_SPEED;
+        if (mFastForwardMultiplier == MAX_SPEED) {
+            mFastForwardMultiplier = MIN_FAST_FORWARD_SPEED;
+        } else if (mFastForwardMultiplier < MAX_FAST_FORWARD_SPEED) {
+            mFastForwardMultiplier *= 2;
+        } else {
+            mFastForwardMultiplier = MAX_SPEED;
+        }
 
         updateTicks();
     }
@@ -62,12 +85,23 @@ public class GameSpeed {
         mListeners.remove(listener);
     }
 
+    @Override
+    public void effectiveSpeedChanged(int effectiveSpeed) {
+        mEffectiveSpeed = effectiveSpeed;
+        notifyListeners();
+    }
+
     private void updateTicks() {
         if (mFastForwardActive)
             mGameEngine.setTicksPerLoop(mFastForwardMultiplier);
         else
             mGameEngine.setTicksPerLoop(1);
 
+        mEffectiveSpeed = 0;
+        notifyListeners();
+    }
+
+    private void notifyListeners() {
         for (Listener listener : mListeners) {
             listener.gameSpeedChanged();
         }
@@ -0,0 +1,25 @@
+package ch.logixisland.anuto.business.game;
+
+import android.content.res.Resources;
+
+import ch.logixisland.anuto.R;
+import ch.logixisland.anuto.util.container.KeyValueStore;
+
+public class ResourceGameDataSource implements GameDataSource {
+
+    private final Resources mResources;
+
+    public ResourceGameDataSource(Resources resources) {
+        mResources = resources;
+    }
+
+    @Override
+    public KeyValueStore getMapData(MapInfo mapInfo) {
+        return KeyValueStore.fromResources(mResources, mapInfo.getMapDataResId());
+    }
+
+    @Override
+    public KeyValueStore getWaveData() {
+        return KeyValueStore.fromResources(mResources, R.raw.waves);
+    }
+}
@@ -2,25 +2,53 @@ package ch.logixisland.anuto.business.game;
 
 import android.util.Log;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
+import ch.logixisland.anuto.engine.logic.map.GameMap;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
 import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.math.Vector2;
 
 public class SaveGameMigrator {
 
     private static final String TAG = GameLoader.class.getSimpleName();
 
-    public static final int SAVE_GAME_VERSION = 2;
+    public static final int SAVE_GAME_VERSION = 3;
+
+    private static final String LEGACY_STATE_FILE_EXTENSION = ".json";
+
+    public interface MapLoader {
+        GameMap loadMap(String mapId);
+    }
 
     private interface Migrator {
         boolean migrate(KeyValueStore gameState);
     }
 
+    private final MapLoader mMapLoader;
     private final List<Migrator> mMigratorList = new ArrayList<>();
 
-    public SaveGameMigrator() {
+    public SaveGameMigrator(MapLoader mapLoader) {
+        mMapLoader = mapLoader;
         mMigratorList.add(this::migrateToVersion2);
+        mMigratorList.add(this::migrateToVersion3);
+    }
+
+    // state files used to be named .json, the loader reads both formats so renaming them is enough
+    public static void migrateStateFileName(File stateFile) {
+        String name = stateFile.getName();
+        String baseName = name.substring(0, name.lastIndexOf('.'));
+        File legacyFile = new File(stateFile.getParentFile(), baseName + LEGACY_STATE_FILE_EXTENSION);
+
+        if (!legacyFile.exists() || stateFile.exists()) {
+            return;
+        }
+
+        if (!legacyFile.renameTo(stateFile)) {
+            Log.w(TAG, "Failed to rename " + legacyFile.getName() + " to " + name + ".");
+        }
     }
 
     public boolean migrate(KeyValueStore gameState) {
@@ -56,4 +84,35 @@ public class SaveGameMigrator {
         return true;
     }
 
+    // enemies reference their map path by index instead of storing a copy of all way points
+    private boolean migrateToVersion3(KeyValueStore gameState) {
+        List<MapPath> paths = mMapLoader.loadMap(gameState.getString("mapId")).getPaths();
+
+        for (KeyValueStore entityData : gameState.getStoreList("entities")) {
+            if (!entityData.hasKey("wayPoints")) {
+                continue;
+            }
+
+            List<Vector2> wayPoints = entityData.getVectorList("wayPoints");
+            int pathIndex = -1;
+
+            for (int i = 0; i < paths.size(); i++) {
+                if (paths.get(i).hasWayPoints(wayPoints)) {
+                    pathIndex = i;
+                    break;
+                }
+            }
+
+            if (pathIndex < 0) {
+                Log.w(TAG, "No map path found for enemy.");
+                return false;
+            }
+
+            entityData.putInt("pathIndex", pathIndex);
+            entityData.remove("wayPoints");
+        }
+
+        return true;
+    }
+
 }
@@ -22,10 +22,10 @@ public class SaveGameRepository {
 
     private static final String TAG = SaveGameRepository.class.getSimpleName();
 
-    private static final String AUTO_SAVE_STATE_FILE = "autosave.json";
+    private static final String AUTO_SAVE_STATE_FILE = "autosave.bin";
 
     private static final String GAME_INFO_FILE = "info.json";
-    private static final String GAME_STATE_FILE = "state.json";
+    private static final String GAME_STATE_FILE = "state.bin";
     private static final String SCREENSHOT_FILE = "screen.png";
 
     private final Context mContext;
@@ -35,6 +35,7 @@ public class SaveGameRepository {
         mContext = context;
         mSaveGameInfos = new ArrayList<>();
 
+        SaveGameMigrator.migrateStateFileName(getAutoSaveStateFile());
         readSaveGameInfos();
     }
 
@@ -153,6 +154,7 @@ public class SaveGameRepository {
     private static SaveGameInfo readSaveGameInfo(File folder) {
         try {
             Log.i(TAG, "Reading save game:" + folder.getName());
+            SaveGameMigrator.migrateStateFileName(new File(folder, GAME_STATE_FILE));
             KeyValueStore gameInfoStore = KeyValueStore.fromStream(new FileInputStream(new File(folder, GAME_INFO_FILE)));
 
             Date date = gameInfoStore.getDate("date");
@@ -175,10 +175,10 @@ class WaveAttender implements Enemy.Listener {
         enemy.setWaveNumber(mWaveNumber);
         enemy.modifyHealth(mEnemyHealthModifier);
         enemy.modifyReward(mEnemyRewardModifier);
-        enemy.setupPath(path.getWayPoints());
+        enemy.setupPath(path);
 
         Vector2 startPosition = path.getWayPoints().get(0);
-        Vector2 startDirection = startPosition.directionTo(path.getWayPoints().get(1));
+        Vector2 startDirection = path.getSegmentDirection(0);
         enemy.setPosition(Vector2.mul(startDirection, -offset).add(startPosition));
 
         return enemy;
@@ -1,6 +1,8 @@
 package ch.logixisland.anuto.engine.logic;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityStore;
@@ -8,6 +10,7 @@ import ch.logixisland.anuto.engine.logic.loop.ErrorListener;
 import ch.logixisland.anuto.engine.logic.loop.GameLoop;
 import ch.logixisland.anuto.engine.logic.loop.Message;
 import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
+import ch.logixisland.anuto.engine.logic.loop.SpeedListener;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.engine.logic.map.GameMap;
 import ch.logixisland.anuto.engine.logic.map.WaveInfo;
@@ -33,6 +36,8 @@ public class GameEngine {
     private final Renderer mRenderer;
     private final GameLoop mGameLoop;
 
+    private final Map<Class<?>, Object> mServices = new HashMap<>();
+
     private GameMap mGameMap;
     private List<WaveInfo> mWaveInfos;
 
@@ -54,6 +59,7 @@ public class GameEngine {
 
     public void setGameMap(GameMap gameMap) {
         mGameMap = gameMap;
+        mEntityStore.setGameSize(gameMap.getWidth(), gameMap.getHeight());
     }
 
     public List<WaveInfo> getWaveInfos() {
@@ -76,6 +82,16 @@ public class GameEngine {
         return mSoundFactory;
     }
 
+    // services are shared by all entities and registered once when the game is set up; entities
+    // look them up once when they are created and keep them, not on every use
+    public void addService(Object service) {
+        mServices.put(service.getClass(), service);
+    }
+
+    public <T> T getService(Class<T> serviceClass) {
+        return serviceClass.cast(mServices.get(serviceClass));
+    }
+
     public Object getStaticData(Entity entity) {
         return mEntityStore.getStaticData(entity);
     }
@@ -84,14 +100,27 @@ public class GameEngine {
         return mEntityStore.getAll();
     }
 
+    public int getEntityCount(int typeId) {
+        return mEntityStore.getCount(typeId);
+    }
+
     public StreamIterator<Entity> getEntitiesByType(int typeId) {
         return mEntityStore.getByType(typeId);
     }
 
+    public StreamIterator<Entity> getEntitiesInRange(int typeId, Vector2 center, float range) {
+        return mEntityStore.getInRange(typeId, center, range);
+    }
+
     public Entity getEntityById(int entityId) {
         return mEntityStore.getById(entityId);
     }
 
+    // a removed entity of the given type to be set up and added again, or null
+    public <T extends Entity> T obtain(Class<T> type) {
+        return mEntityStore.obtain(type);
+    }
+
     public void add(Entity entity) {
         mEntityStore.add(entity);
     }
@@ -108,6 +137,18 @@ public class GameEngine {
         mEntityStore.remove(entity);
     }
 
+    public void sleep(Entity entity, int ticks) {
+        mEntityStore.sleep(entity, ticks);
+    }
+
+    public void sleepUntilAdded(Entity entity, int typeId) {
+        mEntityStore.sleepUntilAdded(entity, typeId);
+    }
+
+    public void wake(Entity entity) {
+        mEntityStore.wake(entity);
+    }
+
     public void remove(Drawable drawable) {
         mRenderer.remove(drawable);
     }
@@ -147,10 +188,18 @@ public class GameEngine {
         mMessageQueue.postAfterTicks(message, ticks);
     }
 
+    public void setSenseWorkerCount(int workerCount) {
+        mEntityStore.setSenseWorkerCount(workerCount);
+    }
+
     public void setTicksPerLoop(int ticksPerLoop) {
         mGameLoop.setTicksPerLoop(ticksPerLoop);
     }
 
+    public void runTicks(int tickCount) {
+        mGameLoop.runTicks(tickCount);
+    }
+
     public boolean isThreadRunning() {
         return mGameLoop.isRunning();
     }
@@ -167,4 +216,8 @@ public class GameEngine {
         mGameLoop.registerErrorListener(listener);
     }
 
+    public void registerSpeedListener(SpeedListener listener) {
+        mGameLoop.registerSpeedListener(listener);
+    }
+
 }
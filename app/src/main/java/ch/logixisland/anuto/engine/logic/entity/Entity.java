@@ -7,39 +7,43 @@ import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
 import ch.logixisland.anuto.engine.sound.SoundFactory;
 import ch.logixisland.anuto.engine.theme.Theme;
-import ch.logixisland.anuto.util.iterator.Function;
+import ch.logixisland.anuto.util.container.SlotHandle;
+import ch.logixisland.anuto.util.iterator.FloatScore;
 import ch.logixisland.anuto.util.iterator.Predicate;
-import ch.logixisland.anuto.util.math.MathUtils;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public abstract class Entity {
+public abstract class Entity implements SlotHandle.Owner {
 
     public interface Listener {
         void entityRemoved(Entity entity);
     }
 
     public static Predicate<Entity> inRange(final Vector2 center, final float range) {
-        return entity -> entity.getDistanceTo(center) <= range;
+        final float range2 = range * range;
+        return entity -> entity.mPosition.distanceSquaredTo(center) <= range2;
     }
 
     public static Predicate<Entity> onLine(final Vector2 p1, final Vector2 p2, final float lineWidth) {
+        final float lineX = p2.x() - p1.x();
+        final float lineY = p2.y() - p1.y();
+        final float lineLen2 = lineX * lineX + lineY * lineY;
+        final float maxDist2 = (lineWidth / 2f) * (lineWidth / 2f);
+
         return entity -> {
-            Vector2 line = Vector2.to(p1, p2);
-            Vector2 toObj = Vector2.to(p1, entity.mPosition);
-            Vector2 proj = toObj.proj(line);
+            float toObjX = entity.mPosition.x() - p1.x();
+            float toObjY = entity.mPosition.y() - p1.y();
 
-            // check whether object is after line end
-            if (proj.len() > line.len()) {
-                return false;
-            }
+            // projection of the object onto the line as fraction of the line length
+            float f = (toObjX * lineX + toObjY * lineY) / lineLen2;
 
-            // check whether object is before line end
-            if (!MathUtils.equals(proj.angle(), line.angle(), 1f)) {
+            // check whether object is before line start or after line end
+            if (f < 0f || f > 1f) {
                 return false;
             }
 
-            return proj.distanceTo(toObj) <= lineWidth / 2f;
-
+            float dx = toObjX - lineX * f;
+            float dy = toObjY - lineY * f;
+            return dx * dx + dy * dy <= maxDist2;
         };
     }
 
@@ -47,7 +51,7 @@ public abstract class Entity {
         return value -> name.equals(value.getEntityName());
     }
 
-    public static Function<Entity, Float> distanceTo(final Vector2 toPoint) {
+    public static FloatScore<Entity> distanceTo(final Vector2 toPoint) {
         return input -> input.getDistanceTo(toPoint);
     }
 
@@ -55,7 +59,27 @@ public abstract class Entity {
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
     private int mEntityId;
-    private Vector2 mPosition = new Vector2();
+    private final Vector2 mPosition = new Vector2();
+
+    SpatialIndex mSpatialIndex;
+    int mSpatialCell = -1;
+
+    boolean mInGame;
+
+    // sleep state, managed by the entity store
+    boolean mActive;
+    boolean mSleeping;
+    boolean mWakeRequested;
+    int mSleepTick;
+    int mSleepSequence;
+    int mWaitTypeId = -1;
+    int mSleptTicks;
+
+    // pool state, managed by the entity store
+    boolean mPooled;
+    boolean mRecycled;
+
+    private final SlotHandle mSlotHandle = new SlotHandle();
 
     protected Entity(GameEngine gameEngine) {
         mGameEngine = gameEngine;
@@ -93,10 +117,61 @@ public abstract class Entity {
         mGameEngine.remove(this);
     }
 
+    // removed entities of recyclable types are pooled and handed out again by GameEngine.obtain(),
+    // so they must be set up completely before being added again
+    protected boolean isRecyclable() {
+        return false;
+    }
+
+    // forgets the state of the last time in game when the entity goes into the pool
+    void recycle() {
+        mListeners.clear();
+        mWakeRequested = false;
+        mWaitTypeId = -1;
+        mSleptTicks = 0;
+    }
+
+    // runs before tick() for all entities, possibly on several threads at once: it may only read
+    // the game state and write the entity's own fields, the results are applied in tick()
+    public void sense() {
+
+    }
+
     public void tick() {
 
     }
 
+    // sense() and tick() are skipped for the given number of ticks, unless the entity is woken
+    // earlier; must be called from init() or tick()
+    protected void sleep(int ticks) {
+        mGameEngine.sleep(this, ticks);
+    }
+
+    // sleeps until woken
+    protected void sleep() {
+        mGameEngine.sleep(this, 0);
+    }
+
+    // sleeps until woken or until an entity of the given type is added
+    protected void sleepUntilAdded(int typeId) {
+        mGameEngine.sleepUntilAdded(this, typeId);
+    }
+
+    // the entity continues with the next tick
+    public void wake() {
+        mGameEngine.wake(this);
+    }
+
+    public boolean isSleeping() {
+        return mSleeping;
+    }
+
+    // ticks skipped by the sleep that just ended, during sense() and tick(); entities that count
+    // ticks have to catch up on them
+    protected int getSleptTicks() {
+        return mSleptTicks;
+    }
+
     protected Object getStaticData() {
         return mGameEngine.getStaticData(this);
     }
@@ -121,13 +196,21 @@ public abstract class Entity {
         return mPosition;
     }
 
+    // copies the given position, the returned position of getPosition() is owned by the entity
     public void setPosition(Vector2 position) {
-        mPosition = position;
+        mPosition.set(position);
+        positionChanged();
     }
 
-    // note: overwrites offset
     public void move(Vector2 offset) {
-        mPosition = offset.add(mPosition);
+        mPosition.add(offset);
+        positionChanged();
+    }
+
+    private void positionChanged() {
+        if (mSpatialIndex != null) {
+            mSpatialIndex.update(this);
+        }
     }
 
     public float getDistanceTo(Entity target) {
@@ -154,6 +237,15 @@ public abstract class Entity {
         return mPosition.angleTo(target);
     }
 
+    @Override
+    public SlotHandle getSlotHandle() {
+        return mSlotHandle;
+    }
+
+    public boolean isInGame() {
+        return mInGame;
+    }
+
     public boolean isPositionVisible() {
         return mGameEngine.isPositionVisible(mPosition);
     }
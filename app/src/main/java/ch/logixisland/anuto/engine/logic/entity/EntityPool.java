@@ -0,0 +1,77 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Keeps removed entities of recyclable types for reuse, at most CAPACITY per class. Removed
+// entities are only retired at first and go into the pool with the next compact(), so nothing
+// that ran in the same tick still refers to an entity that is handed out again.
+class EntityPool {
+
+    private static final int CAPACITY = 64;
+
+    private final Map<Class<? extends Entity>, Deque<Entity>> mPools = new HashMap<>();
+    private final List<Entity> mRetired = new ArrayList<>();
+
+    void retire(Entity entity) {
+        if (!entity.mPooled) {
+            entity.mPooled = true;
+            mRetired.add(entity);
+        }
+    }
+
+    // entities that were added again in the meantime are not pooled
+    void compact() {
+        for (int i = 0; i < mRetired.size(); i++) {
+            Entity entity = mRetired.get(i);
+            Deque<Entity> pool = getPool(entity.getClass());
+
+            if (entity.mInGame || pool.size() >= CAPACITY) {
+                entity.mPooled = false;
+                continue;
+            }
+
+            entity.recycle();
+            pool.push(entity);
+        }
+
+        mRetired.clear();
+    }
+
+    <T extends Entity> T obtain(Class<T> type) {
+        Deque<Entity> pool = mPools.get(type);
+        Entity entity = pool != null ? pool.poll() : null;
+
+        if (entity == null) {
+            return null;
+        }
+
+        entity.mPooled = false;
+        entity.mRecycled = true;
+        return type.cast(entity);
+    }
+
+    void clear() {
+        for (int i = 0; i < mRetired.size(); i++) {
+            mRetired.get(i).mPooled = false;
+        }
+
+        mRetired.clear();
+        mPools.clear();
+    }
+
+    private Deque<Entity> getPool(Class<? extends Entity> type) {
+        Deque<Entity> pool = mPools.get(type);
+
+        if (pool == null) {
+            pool = new ArrayDeque<>();
+            mPools.put(type, pool);
+        }
+
+        return pool;
+    }
+}
@@ -6,11 +6,12 @@ import java.util.Map;
 import java.util.Set;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
-import ch.logixisland.anuto.engine.logic.persistence.Persister;
+import ch.logixisland.anuto.engine.logic.persistence.StreamingPersister;
 import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.container.KeyValueWriter;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 
-public class EntityRegistry implements Persister {
+public class EntityRegistry implements StreamingPersister {
 
     private static class Registration {
         private final int mType;
@@ -91,21 +92,39 @@ public class EntityRegistry implements Persister {
 
         StreamIterator<Entity> iterator = mGameEngine.getAllEntities();
         while (iterator.hasNext()) {
-            Entity entity = iterator.next();
-            Registration registration = mRegistrations.get(entity.getEntityName());
+            KeyValueStore entityData = writeEntityData(iterator.next());
 
-            if (registration == null) {
-                continue;
+            if (entityData != null) {
+                gameState.appendStore("entities", entityData);
             }
+        }
+    }
 
-            EntityPersister persister = registration.mPersister;
+    // only one entity is kept in memory at a time
+    @Override
+    public void writeState(KeyValueWriter writer) {
+        writer.putInt("nextEntityId", mNextEntityId);
+        writer.beginStoreList("entities");
 
-            if (persister == null) {
-                continue;
-            }
+        StreamIterator<Entity> iterator = mGameEngine.getAllEntities();
+        while (iterator.hasNext()) {
+            KeyValueStore entityData = writeEntityData(iterator.next());
 
-            gameState.appendStore("entities", persister.writeEntityData(entity));
+            if (entityData != null) {
+                writer.appendStore(entityData);
+            }
         }
+
+        writer.endStoreList();
     }
 
+    private KeyValueStore writeEntityData(Entity entity) {
+        Registration registration = mRegistrations.get(entity.getEntityName());
+
+        if (registration == null || registration.mPersister == null) {
+            return null;
+        }
+
+        return registration.mPersister.writeEntityData(entity);
+    }
 }
@@ -2,18 +2,42 @@ package ch.logixisland.anuto.engine.logic.entity;
 
 import android.util.SparseArray;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import ch.logixisland.anuto.util.container.SafeMultiMap;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
 
 public class EntityStore {
 
     private final SafeMultiMap<Entity> mEntities = new SafeMultiMap<>();
     private final SparseArray<Entity> mEntityIdMap = new SparseArray<>();
+    private final SparseArray<SpatialIndex> mSpatialIndices = new SparseArray<>();
     private final Map<Class<? extends Entity>, Object> mStaticData = new HashMap<>();
 
+    private final EntityPool mEntityPool = new EntityPool();
+    private long mAllocatedCount;
+    private long mRecycledCount;
+
+    // only awake entities are sensed and ticked, sleeping ones are dropped from the active set
+    // the next time it is iterated and added again when they wake up
+    private final SafeMultiMap<Entity> mActiveEntities = new SafeMultiMap<>();
+    private final WakeSchedule mWakeSchedule = new WakeSchedule();
+    private final SparseArray<List<Entity>> mTypeWaiters = new SparseArray<>();
+    private final List<Entity> mWakeRequests = new ArrayList<>();
+    private int mTickCount;
+    private int mSleepSequence;
+
+    private SenseWorkers mSenseWorkers;
+    private Entity[] mSenseBuffer = new Entity[64];
+
+    private int mGameWidth;
+    private int mGameHeight;
+
     public Object getStaticData(Entity entity) {
         if (!mStaticData.containsKey(entity.getClass())) {
             mStaticData.put(entity.getClass(), entity.initStatic());
@@ -30,36 +54,300 @@ public class EntityStore {
         return mEntities.get(typeId).iterator();
     }
 
+    public int getCount(int typeId) {
+        return mEntities.size(typeId);
+    }
+
+    public StreamIterator<Entity> getInRange(int typeId, Vector2 center, float range) {
+        if (mGameWidth <= 0 || mGameHeight <= 0) {
+            return getByType(typeId).filter(Entity.inRange(center, range));
+        }
+
+        return getSpatialIndex(typeId).getInRange(center, range);
+    }
+
+    public void setGameSize(int width, int height) {
+        mGameWidth = width;
+        mGameHeight = height;
+
+        for (Entity entity : mEntities) {
+            removeFromSpatialIndex(entity);
+        }
+
+        mSpatialIndices.clear();
+
+        for (Entity entity : mEntities) {
+            getSpatialIndex(entity.getEntityType()).add(entity);
+        }
+    }
+
     public Entity getById(int entityId) {
         return mEntityIdMap.get(entityId);
     }
 
+    // a removed entity of the given type to be set up and added again, or null if none is pooled
+    public <T extends Entity> T obtain(Class<T> type) {
+        return mEntityPool.obtain(type);
+    }
+
+    // entities that were added fresh and from the pool, since the store was created
+    public long getAllocatedCount() {
+        return mAllocatedCount;
+    }
+
+    public long getRecycledCount() {
+        return mRecycledCount;
+    }
+
     public void add(Entity entity) {
+        if (entity.mRecycled) {
+            entity.mRecycled = false;
+            mRecycledCount++;
+        } else {
+            mAllocatedCount++;
+        }
+
         mEntities.add(entity.getEntityType(), entity);
+        entity.mInGame = true;
+        activate(entity);
+        if (mGameWidth > 0 && mGameHeight > 0) {
+            getSpatialIndex(entity.getEntityType()).add(entity);
+        }
         if (entity.getEntityId() > 0) {
             mEntityIdMap.put(entity.getEntityId(), entity);
         }
         entity.init();
+        wakeTypeWaiters(entity.getEntityType());
     }
 
     public void remove(Entity entity) {
+        boolean wasInGame = entity.mInGame;
         mEntities.remove(entity.getEntityType(), entity);
         mEntityIdMap.remove(entity.getEntityId());
+        entity.mInGame = false;
+        entity.mSleeping = false;
+        removeFromSpatialIndex(entity);
         entity.clean();
+
+        if (wasInGame && entity.isRecyclable()) {
+            mEntityPool.retire(entity);
+        }
+    }
+
+    // ticks = 0 sleeps until woken
+    public void sleep(Entity entity, int ticks) {
+        if (!entity.mInGame) {
+            return;
+        }
+
+        entity.mSleeping = true;
+        entity.mWakeRequested = false;
+        entity.mSleepTick = mTickCount;
+        entity.mSleepSequence = ++mSleepSequence;
+        entity.mWaitTypeId = -1;
+
+        if (ticks > 0) {
+            mWakeSchedule.push(WakeSchedule.createKey(mTickCount + ticks, entity.mSleepSequence), entity);
+        }
+    }
+
+    public void sleepUntilAdded(Entity entity, int typeId) {
+        sleep(entity, 0);
+
+        if (!entity.mSleeping) {
+            return;
+        }
+
+        List<Entity> waiters = mTypeWaiters.get(typeId);
+
+        if (waiters == null) {
+            waiters = new ArrayList<>();
+            mTypeWaiters.put(typeId, waiters);
+        }
+
+        entity.mWaitTypeId = typeId;
+        waiters.add(entity);
+    }
+
+    // the entity wakes up at the beginning of the next tick
+    public void wake(Entity entity) {
+        if (entity.mSleeping && !entity.mWakeRequested) {
+            entity.mWakeRequested = true;
+            mWakeRequests.add(entity);
+        }
+    }
+
+    // 0 runs the sense phase on the ticking thread, results are the same for any worker count
+    public void setSenseWorkerCount(int workerCount) {
+        if (mSenseWorkers != null) {
+            if (mSenseWorkers.getWorkerCount() == workerCount) {
+                return;
+            }
+
+            mSenseWorkers.shutdown();
+            mSenseWorkers = null;
+        }
+
+        if (workerCount > 0) {
+            mSenseWorkers = new SenseWorkers(workerCount);
+        }
     }
 
+    // all entities sense the state left by the previous tick, then apply their results in order
     public void tick() {
-        for (Entity entity : mEntities) {
+        mTickCount++;
+        wakeEntities();
+        sense();
+
+        StreamIterator<Entity> iterator = mActiveEntities.iterator();
+
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+
+            if (entity.mSleeping || !entity.mInGame) {
+                continue;
+            }
+
             entity.tick();
+            entity.mSleptTicks = 0;
+        }
+
+        iterator.close();
+    }
+
+    private void sense() {
+        StreamIterator<Entity> iterator = mActiveEntities.iterator();
+        int count = 0;
+
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+
+            if (entity.mSleeping || !entity.mInGame) {
+                iterator.remove();
+                entity.mActive = false;
+                continue;
+            }
+
+            if (count == mSenseBuffer.length) {
+                mSenseBuffer = Arrays.copyOf(mSenseBuffer, count * 2);
+            }
+
+            mSenseBuffer[count++] = entity;
+        }
+
+        iterator.close();
+
+        if (mSenseWorkers != null) {
+            mSenseWorkers.sense(mSenseBuffer, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                mSenseBuffer[i].sense();
+            }
+        }
+
+        Arrays.fill(mSenseBuffer, 0, count, null);
+    }
+
+    private void wakeEntities() {
+        while (!mWakeSchedule.isEmpty() && WakeSchedule.getWakeTick(mWakeSchedule.peekKey()) <= mTickCount) {
+            Entity entity = mWakeSchedule.peekEntity();
+            int sleepSequence = WakeSchedule.getSleepSequence(mWakeSchedule.peekKey());
+            mWakeSchedule.pop();
+
+            if (entity.mSleeping && entity.mSleepSequence == sleepSequence) {
+                resume(entity);
+            }
+        }
+
+        for (int i = 0; i < mWakeRequests.size(); i++) {
+            Entity entity = mWakeRequests.get(i);
+
+            if (entity.mSleeping && entity.mWakeRequested) {
+                resume(entity);
+            }
+        }
+
+        mWakeRequests.clear();
+    }
+
+    private void wakeTypeWaiters(int typeId) {
+        List<Entity> waiters = mTypeWaiters.get(typeId);
+
+        if (waiters == null) {
+            return;
+        }
+
+        for (int i = 0; i < waiters.size(); i++) {
+            Entity entity = waiters.get(i);
+
+            if (entity.mSleeping && entity.mWaitTypeId == typeId) {
+                wake(entity);
+            }
+        }
+
+        waiters.clear();
+    }
+
+    private void resume(Entity entity) {
+        entity.mSleeping = false;
+        entity.mWakeRequested = false;
+        entity.mWaitTypeId = -1;
+        entity.mSleptTicks = mTickCount - entity.mSleepTick - 1;
+        activate(entity);
+    }
+
+    private void activate(Entity entity) {
+        if (!entity.mActive) {
+            entity.mActive = true;
+            mActiveEntities.add(entity.getEntityType(), entity);
+        }
+    }
+
+    // must not be called while iterating over entities
+    public void compact() {
+        mEntities.compact();
+        mActiveEntities.compact();
+        mEntityPool.compact();
+
+        for (int i = 0; i < mSpatialIndices.size(); i++) {
+            mSpatialIndices.valueAt(i).compact();
         }
     }
 
     public void clear() {
         for (Entity entity : mEntities) {
             mEntities.remove(entity.getEntityType(), entity);
+            entity.mInGame = false;
+            entity.mSleeping = false;
+            entity.mActive = false;
+            removeFromSpatialIndex(entity);
             entity.clean();
         }
 
+        mActiveEntities.clear();
+        mWakeSchedule.clear();
+        mTypeWaiters.clear();
+        mWakeRequests.clear();
         mStaticData.clear();
+
+        // pooled entities hold assets of the old static data
+        mEntityPool.clear();
+    }
+
+    private SpatialIndex getSpatialIndex(int typeId) {
+        SpatialIndex index = mSpatialIndices.get(typeId);
+
+        if (index == null) {
+            index = new SpatialIndex(mGameWidth, mGameHeight);
+            mSpatialIndices.put(typeId, index);
+        }
+
+        return index;
+    }
+
+    private static void removeFromSpatialIndex(Entity entity) {
+        if (entity.mSpatialIndex != null) {
+            entity.mSpatialIndex.remove(entity);
+        }
     }
 }
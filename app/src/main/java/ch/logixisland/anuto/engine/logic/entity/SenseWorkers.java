@@ -0,0 +1,148 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.logixisland.anuto.util.container.ReaderThread;
+
+// Runs the sense phase of the entities on a few worker threads. The calling thread takes part and
+// blocks until all entities are done, so nothing is modified while the workers read.
+class SenseWorkers {
+
+    private static final int CHUNK_SIZE = 16;
+
+    private final Thread[] mThreads;
+    private final Object mLock = new Object();
+    private final AtomicInteger mNextIndex = new AtomicInteger();
+
+    private Entity[] mEntities;
+    private int mCount;
+    private int mGeneration;
+    private int mActiveWorkers;
+    private boolean mShutdown;
+    private RuntimeException mError;
+
+    SenseWorkers(int workerCount) {
+        mThreads = new Thread[workerCount];
+
+        for (int i = 0; i < workerCount; i++) {
+            mThreads[i] = new ReaderThread(this::runWorker, "SenseWorker-" + i);
+            mThreads[i].setDaemon(true);
+            mThreads[i].start();
+        }
+    }
+
+    int getWorkerCount() {
+        return mThreads.length;
+    }
+
+    void sense(Entity[] entities, int count) {
+        if (count <= CHUNK_SIZE) {
+            for (int i = 0; i < count; i++) {
+                entities[i].sense();
+            }
+            return;
+        }
+
+        synchronized (mLock) {
+            mEntities = entities;
+            mCount = count;
+            mNextIndex.set(0);
+            mActiveWorkers = mThreads.length;
+            mGeneration++;
+            mLock.notifyAll();
+        }
+
+        RuntimeException error = null;
+
+        try {
+            senseChunks();
+        } catch (RuntimeException e) {
+            error = e;
+        }
+
+        synchronized (mLock) {
+            while (mActiveWorkers > 0) {
+                try {
+                    mLock.wait();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException("Interrupted while waiting for sense workers!", e);
+                }
+            }
+
+            mEntities = null;
+
+            if (error == null) {
+                error = mError;
+            }
+
+            mError = null;
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    void shutdown() {
+        synchronized (mLock) {
+            mShutdown = true;
+            mLock.notifyAll();
+        }
+    }
+
+    private void senseChunks() {
+        while (true) {
+            int start = mNextIndex.getAndAdd(CHUNK_SIZE);
+
+            if (start >= mCount) {
+                return;
+            }
+
+            int end = Math.min(start + CHUNK_SIZE, mCount);
+
+            for (int i = start; i < end; i++) {
+                mEntities[i].sense();
+            }
+        }
+    }
+
+    private void runWorker() {
+        int generation = 0;
+
+        while (true) {
+            synchronized (mLock) {
+                while (generation == mGeneration && !mShutdown) {
+                    try {
+                        mLock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+
+                if (mShutdown) {
+                    return;
+                }
+
+                generation = mGeneration;
+            }
+
+            RuntimeException error = null;
+
+            try {
+                senseChunks();
+            } catch (RuntimeException e) {
+                error = e;
+            }
+
+            synchronized (mLock) {
+                if (error != null && mError == null) {
+                    mError = error;
+                }
+
+                if (--mActiveWorkers == 0) {
+                    mLock.notifyAll();
+                }
+            }
+        }
+    }
+}
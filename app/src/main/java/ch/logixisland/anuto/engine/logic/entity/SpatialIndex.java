@@ -0,0 +1,178 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import ch.logixisland.anuto.util.container.ReaderThread;
+import ch.logixisland.anuto.util.container.SafeCollection;
+import ch.logixisland.anuto.util.iterator.LazyIterator;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
+
+class SpatialIndex {
+
+    private static final float CELL_SIZE = 2f;
+
+    // tiles are centered on integer coordinates
+    private static final float ORIGIN_OFFSET = 0.5f;
+
+    private static final int ITERATOR_POOL_CAPACITY = 4;
+
+    private class RangeIterator extends LazyIterator<Entity> {
+        private Vector2 mCenter;
+        private float mRange2;
+        private int mMinColumn;
+        private int mMaxColumn;
+        private int mMaxRow;
+
+        private int mColumn;
+        private int mRow;
+        private StreamIterator<Entity> mCellIterator;
+        private boolean mPooled;
+
+        private void start(Vector2 center, float range) {
+            reset();
+            mPooled = false;
+            mCenter = center;
+            mRange2 = range * range;
+            mMinColumn = getColumn(center.x() - range);
+            mMaxColumn = getColumn(center.x() + range);
+            mMaxRow = getRow(center.y() + range);
+            mColumn = mMinColumn;
+            mRow = getRow(center.y() - range);
+        }
+
+        @Override
+        protected Entity fetchNext() {
+            while (true) {
+                while (mCellIterator == null || !mCellIterator.hasNext()) {
+                    closeCellIterator();
+
+                    if (mRow > mMaxRow) {
+                        return null;
+                    }
+
+                    mCellIterator = mCells.get(mRow * mColumns + mColumn).iterator();
+
+                    if (++mColumn > mMaxColumn) {
+                        mColumn = mMinColumn;
+                        mRow++;
+                    }
+                }
+
+                Entity entity = mCellIterator.next();
+
+                if (entity.getPosition().distanceSquaredTo(mCenter) <= mRange2) {
+                    return entity;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            closeCellIterator();
+
+            if (!mPooled && !ReaderThread.isCurrent()) {
+                mPooled = true;
+                mCenter = null;
+
+                if (mIteratorPool.size() < ITERATOR_POOL_CAPACITY) {
+                    mIteratorPool.push(this);
+                }
+            }
+        }
+
+        private void closeCellIterator() {
+            if (mCellIterator != null) {
+                mCellIterator.close();
+                mCellIterator = null;
+            }
+        }
+    }
+
+    private final int mColumns;
+    private final int mRows;
+    private final List<SafeCollection<Entity>> mCells;
+    private final Deque<RangeIterator> mIteratorPool = new ArrayDeque<>(ITERATOR_POOL_CAPACITY);
+
+    SpatialIndex(int width, int height) {
+        mColumns = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        mRows = Math.max(1, (int) Math.ceil(height / CELL_SIZE));
+        mCells = new ArrayList<>(mColumns * mRows);
+
+        for (int i = 0; i < mColumns * mRows; i++) {
+            mCells.add(new SafeCollection<>());
+        }
+    }
+
+    void add(Entity entity) {
+        int cell = getCell(entity.getPosition());
+        mCells.get(cell).add(entity);
+        entity.mSpatialIndex = this;
+        entity.mSpatialCell = cell;
+    }
+
+    void remove(Entity entity) {
+        if (entity.mSpatialIndex != this) {
+            return;
+        }
+
+        mCells.get(entity.mSpatialCell).remove(entity);
+        entity.mSpatialIndex = null;
+        entity.mSpatialCell = -1;
+    }
+
+    void update(Entity entity) {
+        int cell = getCell(entity.getPosition());
+
+        if (cell != entity.mSpatialCell) {
+            mCells.get(entity.mSpatialCell).remove(entity);
+            mCells.get(cell).add(entity);
+            entity.mSpatialCell = cell;
+        }
+    }
+
+    void compact() {
+        for (SafeCollection<Entity> cell : mCells) {
+            cell.compact();
+        }
+    }
+
+    StreamIterator<Entity> getInRange(Vector2 center, float range) {
+        RangeIterator iterator = ReaderThread.isCurrent() ? null : mIteratorPool.poll();
+
+        if (iterator == null) {
+            iterator = new RangeIterator();
+        }
+
+        iterator.start(center, range);
+        return iterator;
+    }
+
+    // positions outside of the map are clamped to the border cells
+    private int getCell(Vector2 position) {
+        return getRow(position.y()) * mColumns + getColumn(position.x());
+    }
+
+    private int getColumn(float x) {
+        return clamp((int) Math.floor((x + ORIGIN_OFFSET) / CELL_SIZE), mColumns);
+    }
+
+    private int getRow(float y) {
+        return clamp((int) Math.floor((y + ORIGIN_OFFSET) / CELL_SIZE), mRows);
+    }
+
+    private static int clamp(int index, int count) {
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index >= count) {
+            return count - 1;
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,104 @@
+package ch.logixisland.anuto.engine.logic.entity;
+
+import java.util.Arrays;
+
+// Binary min heap of sleeping entities ordered by wake tick and then by the order they fell
+// asleep. Entries are not removed when an entity wakes early, the sleep sequence stored in the
+// key tells stale entries apart.
+class WakeSchedule {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private long[] mKeys = new long[INITIAL_CAPACITY];
+    private Entity[] mEntities = new Entity[INITIAL_CAPACITY];
+    private int mSize;
+
+    static long createKey(int wakeTick, int sleepSequence) {
+        return ((long) wakeTick << 32) | (sleepSequence & 0xFFFFFFFFL);
+    }
+
+    static int getWakeTick(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int getSleepSequence(long key) {
+        return (int) key;
+    }
+
+    boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    long peekKey() {
+        return mKeys[0];
+    }
+
+    Entity peekEntity() {
+        return mEntities[0];
+    }
+
+    void push(long key, Entity entity) {
+        if (mSize == mKeys.length) {
+            mKeys = Arrays.copyOf(mKeys, mSize * 2);
+            mEntities = Arrays.copyOf(mEntities, mSize * 2);
+        }
+
+        int index = mSize++;
+
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+
+            if (mKeys[parent] <= key) {
+                break;
+            }
+
+            mKeys[index] = mKeys[parent];
+            mEntities[index] = mEntities[parent];
+            index = parent;
+        }
+
+        mKeys[index] = key;
+        mEntities[index] = entity;
+    }
+
+    void pop() {
+        int last = --mSize;
+        long key = mKeys[last];
+        Entity entity = mEntities[last];
+        mEntities[last] = null;
+
+        if (last == 0) {
+            return;
+        }
+
+        int index = 0;
+
+        while (true) {
+            int child = 2 * index + 1;
+
+            if (child >= last) {
+                break;
+            }
+
+            if (child + 1 < last && mKeys[child + 1] < mKeys[child]) {
+                child++;
+            }
+
+            if (key <= mKeys[child]) {
+                break;
+            }
+
+            mKeys[index] = mKeys[child];
+            mEntities[index] = mEntities[child];
+            index = child;
+        }
+
+        mKeys[index] = key;
+        mEntities[index] = entity;
+    }
+
+    void clear() {
+        Arrays.fill(mEntities, 0, mSize, null);
+        mSize = 0;
+    }
+}
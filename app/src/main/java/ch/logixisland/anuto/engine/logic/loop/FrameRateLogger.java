@@ -12,9 +12,14 @@ public class FrameRateLogger {
 
     private final AtomicInteger mLoopCount = new AtomicInteger();
     private final AtomicInteger mRenderCount = new AtomicInteger();
+    private final GameMetrics mGameMetrics;
 
     private long mLastOutputTime;
 
+    public FrameRateLogger(GameMetrics gameMetrics) {
+        mGameMetrics = gameMetrics;
+    }
+
     public void incrementLoopCount() {
         mLoopCount.incrementAndGet();
     }
@@ -35,6 +40,10 @@ public class FrameRateLogger {
             renderCount = renderCount * 1000 / sinceLastOutput;
             Log.d(TAG, String.format("loop: %1$sHz; render: %2$sHz", loopCount, renderCount));
 
+            if (mGameMetrics.isEnabled()) {
+                Log.d(TAG, mGameMetrics.getSnapshot().toString());
+            }
+
             mLastOutputTime = currentTime;
         }
     }
@@ -16,31 +16,49 @@ public class GameLoop implements Runnable {
     public final static int TARGET_FRAME_RATE = 30;
     private final static int TICK_TIME = 1000 / TARGET_FRAME_RATE;
     private final static int MAX_FRAME_SKIPS = 1;
+    public final static int MAX_TICKS_PER_LOOP = 256;
+
+    // share of the frame time that may be spent on ticks, the rest is left for rendering
+    private final static long TICK_BUDGET_NANOS = TICK_TIME * 1000000L * 3 / 4;
+    private final static int SPEED_MEASURE_INTERVAL = 1000;
 
     private final Renderer mRenderer;
     private final FrameRateLogger mFrameRateLogger;
     private final MessageQueue mMessageQueue;
     private final EntityStore mEntityStore;
+    private final GameMetrics mGameMetrics;
 
-    private final Collection<TickListener> mTickListeners = new SafeCollection<>();
+    private final SafeCollection<TickListener> mTickListeners = new SafeCollection<>();
     private final Collection<ErrorListener> mErrorListeners = new CopyOnWriteArrayList<>();
+    private final Collection<SpeedListener> mSpeedListeners = new CopyOnWriteArrayList<>();
 
     private int mGameTicksPerLoop = 1;
+    private long mTickCostNanos;
+    private int mEffectiveSpeed;
+    private long mSpeedMeasureStart;
+    private int mSpeedMeasureTicks;
+    private long mAllocatedCount;
+    private long mRecycledCount;
 
     private Thread mGameThread;
     private volatile boolean mRunning = false;
 
-    public GameLoop(Renderer renderer, FrameRateLogger frameRateLogger, MessageQueue messageQueue, EntityStore entityStore) {
+    public GameLoop(Renderer renderer, FrameRateLogger frameRateLogger, MessageQueue messageQueue, EntityStore entityStore, GameMetrics gameMetrics) {
         mRenderer = renderer;
         mFrameRateLogger = frameRateLogger;
         mMessageQueue = messageQueue;
         mEntityStore = entityStore;
+        mGameMetrics = gameMetrics;
     }
 
     public void registerErrorListener(ErrorListener listener) {
         mErrorListeners.add(listener);
     }
 
+    public void registerSpeedListener(SpeedListener listener) {
+        mSpeedListeners.add(listener);
+    }
+
     public void add(TickListener listener) {
         mTickListeners.add(listener);
     }
@@ -79,19 +97,36 @@ public class GameLoop implements Runnable {
         }
     }
 
+    // the ticks are an upper bound, fewer are executed when they do not fit into the frame time
     public void setTicksPerLoop(int ticksPerLoop) {
-        mGameTicksPerLoop = ticksPerLoop;
+        mGameTicksPerLoop = Math.max(1, Math.min(ticksPerLoop, MAX_TICKS_PER_LOOP));
+        resetSpeedMeasurement();
     }
 
     public boolean isThreadChangeNeeded() {
         return Thread.currentThread() != mGameThread;
     }
 
+    // runs the given amount of ticks on the calling thread without rendering or sleeping
+    public void runTicks(int tickCount) {
+        if (mRunning) {
+            throw new RuntimeException("Game loop is already running!");
+        }
+
+        mGameThread = Thread.currentThread();
+
+        for (int i = 0; i < tickCount; i++) {
+            executeTick();
+            processMessages();
+        }
+    }
+
     @Override
     public void run() {
         long timeNextTick = System.currentTimeMillis();
         int skipFrameCount = 0;
         int loopCount = 0;
+        resetSpeedMeasurement();
 
         try {
             while (mRunning) {
@@ -101,6 +136,7 @@ public class GameLoop implements Runnable {
                 int sleepTime = (int) (timeNextTick - System.currentTimeMillis());
 
                 if (sleepTime > 0 || skipFrameCount >= MAX_FRAME_SKIPS) {
+                    mRenderer.publishSnapshot();
                     mRenderer.invalidate();
                     skipFrameCount = 0;
                 } else {
@@ -127,24 +163,109 @@ public class GameLoop implements Runnable {
     }
 
     private void executeCycle() {
-        mRenderer.lock();
-        for (int i = 0; i < mGameTicksPerLoop; i++) {
+        long cycleStart = mGameMetrics.startTimer();
+        long startTime = System.nanoTime();
+        int tickCount = 0;
+
+        while (tickCount < mGameTicksPerLoop) {
+            long tickStart = System.nanoTime();
             executeTick();
-            mMessageQueue.processMessages();
+            processMessages();
+            tickCount++;
+
+            // stop when the next tick is expected to exceed the budget
+            long now = System.nanoTime();
+            mTickCostNanos += (now - tickStart - mTickCostNanos) / 8;
+
+            if (now - startTime + mTickCostNanos > TICK_BUDGET_NANOS) {
+                break;
+            }
         }
-        mRenderer.unlock();
+
+        mGameMetrics.stopTimer(GameMetrics.PHASE_CYCLE, cycleStart);
+        updateEntityCounts();
+        updateEffectiveSpeed(tickCount);
 
         mFrameRateLogger.incrementLoopCount();
         mFrameRateLogger.outputFrameRate();
     }
 
     private void executeTick() {
+        long tickStart = mGameMetrics.startTimer();
+        long time = tickStart;
+
         mMessageQueue.tick();
         mEntityStore.tick();
+        time = mGameMetrics.stopTimer(GameMetrics.PHASE_ENTITIES, time);
 
         for (TickListener listener : mTickListeners) {
             listener.tick();
         }
+
+        time = mGameMetrics.stopTimer(GameMetrics.PHASE_TICK_LISTENERS, time);
+
+        // removed elements are reclaimed between ticks, when no iteration is in progress
+        mEntityStore.compact();
+        mRenderer.compact();
+        mTickListeners.compact();
+
+        mGameMetrics.stopTimer(GameMetrics.PHASE_COMPACT, time);
+        mGameMetrics.stopTimer(GameMetrics.PHASE_TICK, tickStart);
+        mGameMetrics.count(GameMetrics.COUNTER_TICKS, 1);
+    }
+
+    private void processMessages() {
+        long start = mGameMetrics.startTimer();
+        int count = mMessageQueue.processMessages();
+        mGameMetrics.stopTimer(GameMetrics.PHASE_MESSAGES, start);
+        mGameMetrics.count(GameMetrics.COUNTER_MESSAGES, count);
+    }
+
+    private void resetSpeedMeasurement() {
+        mSpeedMeasureStart = System.currentTimeMillis();
+        mSpeedMeasureTicks = 0;
+        mEffectiveSpeed = 0;
+    }
+
+    // speed relative to real time, measured over the last interval
+    private void updateEffectiveSpeed(int tickCount) {
+        mSpeedMeasureTicks += tickCount;
+
+        long now = System.currentTimeMillis();
+        long elapsed = now - mSpeedMeasureStart;
+
+        if (elapsed < SPEED_MEASURE_INTERVAL) {
+            return;
+        }
+
+        int speed = Math.max(1, Math.round(mSpeedMeasureTicks * 1000f / (elapsed * TARGET_FRAME_RATE)));
+        mSpeedMeasureStart = now;
+        mSpeedMeasureTicks = 0;
+
+        if (speed != mEffectiveSpeed) {
+            mEffectiveSpeed = speed;
+
+            for (SpeedListener listener : mSpeedListeners) {
+                listener.effectiveSpeedChanged(speed);
+            }
+        }
+    }
+
+    private void updateEntityCounts() {
+        long allocatedCount = mEntityStore.getAllocatedCount();
+        long recycledCount = mEntityStore.getRecycledCount();
+        mGameMetrics.count(GameMetrics.COUNTER_ALLOCATED, allocatedCount - mAllocatedCount);
+        mGameMetrics.count(GameMetrics.COUNTER_RECYCLED, recycledCount - mRecycledCount);
+        mAllocatedCount = allocatedCount;
+        mRecycledCount = recycledCount;
+
+        if (!mGameMetrics.isEnabled()) {
+            return;
+        }
+
+        for (int typeId = 0; typeId < GameMetrics.MAX_ENTITY_TYPES; typeId++) {
+            mGameMetrics.setEntityCount(typeId, mEntityStore.getCount(typeId));
+        }
     }
 
     private void notifyErrorListeners(int loopCount, Exception e) {
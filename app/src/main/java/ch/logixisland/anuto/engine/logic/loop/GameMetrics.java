@@ -0,0 +1,197 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Collects per-phase timings and counters of the game loop and the renderer. Everything is
+// disabled by default: a disabled timer is a single volatile read and no sample is recorded.
+// Samples come from the game thread and the UI thread, each thread records into its own recorder
+// without locking and a snapshot merges them.
+public class GameMetrics {
+
+    public static final int PHASE_CYCLE = 0;
+    public static final int PHASE_TICK = 1;
+    public static final int PHASE_MESSAGES = 2;
+    public static final int PHASE_ENTITIES = 3;
+    public static final int PHASE_TICK_LISTENERS = 4;
+    public static final int PHASE_COMPACT = 5;
+    public static final int PHASE_SNAPSHOT = 6;
+    public static final int PHASE_DRAW = 7;
+    static final int PHASE_COUNT = 8;
+
+    public static final int COUNTER_TICKS = 0;
+    public static final int COUNTER_MESSAGES = 1;
+    public static final int COUNTER_FRAMES = 2;
+    public static final int COUNTER_DRAWN = 3;
+    public static final int COUNTER_CULLED = 4;
+    public static final int COUNTER_DRAW_CALLS = 5;
+    public static final int COUNTER_ALLOCATED = 6;
+    public static final int COUNTER_RECYCLED = 7;
+    static final int COUNTER_COUNT = 8;
+
+    public static final int MAX_ENTITY_TYPES = 16;
+
+    static final String[] PHASE_NAMES = {
+            "cycle", "tick", "messages", "entities", "tickListeners", "compact", "snapshot", "draw"
+    };
+
+    static final String[] COUNTER_NAMES = {
+            "ticks", "messages", "frames", "drawn", "culled", "drawCalls", "allocated", "recycled"
+    };
+
+    // written only by its owner thread; a snapshot taken meanwhile may miss the samples in flight
+    private static class Recorder {
+        private final LatencyHistogram[] mPhases = new LatencyHistogram[PHASE_COUNT];
+        private final long[] mCounters = new long[COUNTER_COUNT];
+        private final int[] mEntityCounts = new int[MAX_ENTITY_TYPES];
+        private Thread mOwner;
+        private int mGeneration;
+
+        private Recorder(Thread owner, int generation) {
+            for (int i = 0; i < PHASE_COUNT; i++) {
+                mPhases[i] = new LatencyHistogram();
+            }
+
+            mOwner = owner;
+            mGeneration = generation;
+        }
+
+        private void reset(int generation) {
+            for (LatencyHistogram histogram : mPhases) {
+                histogram.reset();
+            }
+
+            for (int i = 0; i < COUNTER_COUNT; i++) {
+                mCounters[i] = 0;
+            }
+
+            for (int i = 0; i < MAX_ENTITY_TYPES; i++) {
+                mEntityCounts[i] = 0;
+            }
+
+            mGeneration = generation;
+        }
+    }
+
+    private final ThreadLocal<Recorder> mThreadRecorder = new ThreadLocal<>();
+    private final List<Recorder> mRecorders = new ArrayList<>();
+    private long mResetTime;
+
+    // recorders of an older generation count as empty and are reset by their owner before use
+    private volatile int mGeneration;
+    private volatile boolean mEnabled;
+
+    public GameMetrics() {
+        mResetTime = System.nanoTime();
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (enabled && !mEnabled) {
+            reset();
+        }
+
+        mEnabled = enabled;
+    }
+
+    // returns 0 if disabled, which makes the matching stopTimer() a no-op
+    public long startTimer() {
+        return mEnabled ? System.nanoTime() : 0;
+    }
+
+    // returns the stop time, so it can be used as start time of the next phase
+    public long stopTimer(int phase, long startTime) {
+        if (startTime == 0 || !mEnabled) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        getRecorder().mPhases[phase].record(now - startTime);
+        return now;
+    }
+
+    public void count(int counter, long amount) {
+        if (mEnabled) {
+            getRecorder().mCounters[counter] += amount;
+        }
+    }
+
+    public void setEntityCount(int typeId, int count) {
+        if (mEnabled && typeId >= 0 && typeId < MAX_ENTITY_TYPES) {
+            getRecorder().mEntityCounts[typeId] = count;
+        }
+    }
+
+    public synchronized MetricsSnapshot getSnapshot() {
+        LatencyHistogram[] phases = new LatencyHistogram[PHASE_COUNT];
+        long[] counters = new long[COUNTER_COUNT];
+        int[] entityCounts = new int[MAX_ENTITY_TYPES];
+
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+
+        for (Recorder recorder : mRecorders) {
+            if (recorder.mGeneration != mGeneration) {
+                continue;
+            }
+
+            for (int i = 0; i < PHASE_COUNT; i++) {
+                phases[i].add(recorder.mPhases[i]);
+            }
+
+            for (int i = 0; i < COUNTER_COUNT; i++) {
+                counters[i] += recorder.mCounters[i];
+            }
+
+            // only the game thread reports entity counts
+            for (int i = 0; i < MAX_ENTITY_TYPES; i++) {
+                entityCounts[i] += recorder.mEntityCounts[i];
+            }
+        }
+
+        return new MetricsSnapshot(phases, counters, entityCounts, System.nanoTime() - mResetTime);
+    }
+
+    public synchronized void reset() {
+        mGeneration++;
+        mResetTime = System.nanoTime();
+    }
+
+    private Recorder getRecorder() {
+        Recorder recorder = mThreadRecorder.get();
+
+        if (recorder == null) {
+            recorder = obtainRecorder();
+            mThreadRecorder.set(recorder);
+        }
+
+        int generation = mGeneration;
+
+        if (recorder.mGeneration != generation) {
+            recorder.reset(generation);
+        }
+
+        return recorder;
+    }
+
+    // the game thread is restarted on every resume, so recorders of finished threads are taken
+    // over instead of adding a new one each time
+    private synchronized Recorder obtainRecorder() {
+        Thread thread = Thread.currentThread();
+
+        for (Recorder recorder : mRecorders) {
+            if (!recorder.mOwner.isAlive()) {
+                recorder.mOwner = thread;
+                return recorder;
+            }
+        }
+
+        Recorder recorder = new Recorder(thread, mGeneration);
+        mRecorders.add(recorder);
+        return recorder;
+    }
+}
@@ -0,0 +1,97 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.util.Arrays;
+
+// Log-linear buckets like HdrHistogram: 16 linear sub-buckets per power of two keep every value
+// within about 6% from nanoseconds up to hours, with a fixed size and no allocation per sample.
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] mCounts = new long[BUCKET_COUNT];
+    private long mTotalCount;
+    private long mMax;
+
+    void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+
+        mCounts[indexOf(value)]++;
+        mTotalCount++;
+
+        if (value > mMax) {
+            mMax = value;
+        }
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mCounts[i] += other.mCounts[i];
+        }
+
+        mTotalCount += other.mTotalCount;
+        mMax = Math.max(mMax, other.mMax);
+    }
+
+    long getTotalCount() {
+        return mTotalCount;
+    }
+
+    long getMax() {
+        return mMax;
+    }
+
+    // upper end of the bucket containing the percentile, so the result is never too optimistic
+    long getValueAtPercentile(double percentile) {
+        if (mTotalCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * mTotalCount));
+        long count = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += mCounts[i];
+
+            if (count >= target) {
+                return Math.min(lowestValueOf(i + 1) - 1, mMax);
+            }
+        }
+
+        return mMax;
+    }
+
+    void reset() {
+        Arrays.fill(mCounts, 0);
+        mTotalCount = 0;
+        mMax = 0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long lowestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+
+        if (shift >= 64 - SUB_BUCKET_BITS - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+}
@@ -1,15 +1,20 @@
 package ch.logixisland.anuto.engine.logic.loop;
 
-import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import ch.logixisland.anuto.engine.logic.persistence.Persister;
 import ch.logixisland.anuto.util.container.KeyValueStore;
 
 public class MessageQueue implements Persister {
 
+    private static final int INITIAL_CAPACITY = 64;
+
     private static class MessageEntry {
         private final Message mMessage;
         private final long mDueTickCount;
+        private long mSequence;
 
         MessageEntry(Message message, long dueTickCount) {
             mMessage = message;
@@ -17,42 +22,58 @@ public class MessageQueue implements Persister {
         }
     }
 
-    private final ArrayList<MessageEntry> mQueue = new ArrayList<>();
-    private int mTickCount = 0;
+    // messages with equal due tick are executed in the order they were posted
+    private static int compare(MessageEntry e1, MessageEntry e2) {
+        if (e1.mDueTickCount != e2.mDueTickCount) {
+            return e1.mDueTickCount < e2.mDueTickCount ? -1 : 1;
+        }
+
+        return Long.compare(e1.mSequence, e2.mSequence);
+    }
+
+    // posts from any thread land here, only the game thread moves them into the heap
+    private final Queue<MessageEntry> mInbox = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<MessageEntry> mQueue = new PriorityQueue<>(INITIAL_CAPACITY, MessageQueue::compare);
+    private long mNextSequence = 0;
+    private volatile int mTickCount = 0;
 
     public int getTickCount() {
         return mTickCount;
     }
 
-    public synchronized void post(Message message) {
+    public void post(Message message) {
         postAfterTicks(message, 0);
     }
 
-    public synchronized void postAfterTicks(Message message, int ticks) {
-        long dueTickCount = mTickCount + ticks;
-
-        for (int i = 0; i < mQueue.size(); i++) {
-            if (dueTickCount < mQueue.get(i).mDueTickCount) {
-                mQueue.add(i, new MessageEntry(message, dueTickCount));
-                return;
-            }
-        }
-
-        mQueue.add(new MessageEntry(message, dueTickCount));
+    public void postAfterTicks(Message message, int ticks) {
+        mInbox.add(new MessageEntry(message, mTickCount + ticks));
     }
 
-    public synchronized void clear() {
+    public void clear() {
+        mInbox.clear();
         mQueue.clear();
     }
 
-    public synchronized void tick() {
+    public void tick() {
         mTickCount++;
     }
 
-    public synchronized void processMessages() {
-        while (!mQueue.isEmpty() && mTickCount >= mQueue.get(0).mDueTickCount) {
-            MessageEntry messageEntry = mQueue.remove(0);
+    // returns the number of executed messages
+    public int processMessages() {
+        int count = 0;
+
+        while (true) {
+            drainInbox();
+
+            MessageEntry messageEntry = mQueue.peek();
+
+            if (messageEntry == null || mTickCount < messageEntry.mDueTickCount) {
+                return count;
+            }
+
+            mQueue.poll();
             messageEntry.mMessage.execute();
+            count++;
         }
     }
 
@@ -70,4 +91,13 @@ public class MessageQueue implements Persister {
     public void readState(KeyValueStore gameState) {
         mTickCount = gameState.getInt("tickCount");
     }
+
+    private void drainInbox() {
+        MessageEntry messageEntry;
+
+        while ((messageEntry = mInbox.poll()) != null) {
+            messageEntry.mSequence = mNextSequence++;
+            mQueue.add(messageEntry);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.preference.PreferenceManager;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import ch.logixisland.anuto.Preferences;
+
+// Switches the game metrics with the debug preference. Pausing the game or switching them off
+// writes what was collected to the log and to a file in the app's files directory; the file is
+// written on a background thread, as both happen on the UI thread.
+public class MetricsManager implements SharedPreferences.OnSharedPreferenceChangeListener {
+
+    private static final String TAG = MetricsManager.class.getSimpleName();
+    private static final String DUMP_FILE_NAME = "metrics.txt";
+
+    private final SharedPreferences mPreferences;
+    private final GameMetrics mGameMetrics;
+    private final File mDumpFile;
+    private final ExecutorService mDumpExecutor = Executors.newSingleThreadExecutor();
+
+    public MetricsManager(Context context, GameMetrics gameMetrics) {
+        mPreferences = PreferenceManager.getDefaultSharedPreferences(context);
+        mPreferences.registerOnSharedPreferenceChangeListener(this);
+        mGameMetrics = gameMetrics;
+        mDumpFile = new File(context.getFilesDir(), DUMP_FILE_NAME);
+
+        updateMetricsEnabled();
+    }
+
+    public File getDumpFile() {
+        return mDumpFile;
+    }
+
+    @Override
+    public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
+        if (Preferences.METRICS_ENABLED.equals(key)) {
+            updateMetricsEnabled();
+        }
+    }
+
+    // does nothing while the metrics are disabled
+    public void dumpMetrics() {
+        if (!mGameMetrics.isEnabled()) {
+            return;
+        }
+
+        MetricsSnapshot snapshot = mGameMetrics.getSnapshot();
+        mDumpExecutor.execute(() -> writeDumpFile(snapshot));
+    }
+
+    private void writeDumpFile(MetricsSnapshot snapshot) {
+        Log.i(TAG, snapshot.toString());
+
+        try (Writer writer = new FileWriter(mDumpFile)) {
+            snapshot.writeTo(writer);
+        } catch (IOException e) {
+            Log.e(TAG, "Could not dump metrics!", e);
+            return;
+        }
+
+        Log.i(TAG, "Metrics written to " + mDumpFile.getPath());
+    }
+
+    private void updateMetricsEnabled() {
+        boolean enabled = mPreferences.getBoolean(Preferences.METRICS_ENABLED, false);
+
+        if (!enabled) {
+            dumpMetrics();
+        }
+
+        mGameMetrics.setEnabled(enabled);
+    }
+}
@@ -0,0 +1,91 @@
+package ch.logixisland.anuto.engine.logic.loop;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Locale;
+
+// Immutable copy of the game metrics, times are in nanoseconds.
+public class MetricsSnapshot {
+
+    private final long[] mP50 = new long[GameMetrics.PHASE_COUNT];
+    private final long[] mP99 = new long[GameMetrics.PHASE_COUNT];
+    private final long[] mMax = new long[GameMetrics.PHASE_COUNT];
+    private final long[] mSamples = new long[GameMetrics.PHASE_COUNT];
+    private final long[] mCounters;
+    private final int[] mEntityCounts;
+    private final long mDuration;
+
+    MetricsSnapshot(LatencyHistogram[] phases, long[] counters, int[] entityCounts, long duration) {
+        for (int i = 0; i < GameMetrics.PHASE_COUNT; i++) {
+            mP50[i] = phases[i].getValueAtPercentile(50);
+            mP99[i] = phases[i].getValueAtPercentile(99);
+            mMax[i] = phases[i].getMax();
+            mSamples[i] = phases[i].getTotalCount();
+        }
+
+        mCounters = counters.clone();
+        mEntityCounts = entityCounts.clone();
+        mDuration = duration;
+    }
+
+    public long getP50(int phase) {
+        return mP50[phase];
+    }
+
+    public long getP99(int phase) {
+        return mP99[phase];
+    }
+
+    public long getMax(int phase) {
+        return mMax[phase];
+    }
+
+    public long getSampleCount(int phase) {
+        return mSamples[phase];
+    }
+
+    public long getCounter(int counter) {
+        return mCounters[counter];
+    }
+
+    public int getEntityCount(int typeId) {
+        return mEntityCounts[typeId];
+    }
+
+    public long getDuration() {
+        return mDuration;
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(String.format(Locale.US, "duration: %.1fs\n", mDuration / 1e9));
+
+        for (int i = 0; i < GameMetrics.PHASE_COUNT; i++) {
+            writer.write(String.format(Locale.US, "%s: p50=%.3fms p99=%.3fms max=%.3fms n=%d\n",
+                    GameMetrics.PHASE_NAMES[i], mP50[i] / 1e6, mP99[i] / 1e6, mMax[i] / 1e6, mSamples[i]));
+        }
+
+        for (int i = 0; i < GameMetrics.COUNTER_COUNT; i++) {
+            writer.write(String.format(Locale.US, "%s: %d\n", GameMetrics.COUNTER_NAMES[i], mCounters[i]));
+        }
+
+        for (int i = 0; i < GameMetrics.MAX_ENTITY_TYPES; i++) {
+            if (mEntityCounts[i] > 0) {
+                writer.write(String.format(Locale.US, "entities[%d]: %d\n", i, mEntityCounts[i]));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringWriter writer = new StringWriter();
+
+        try {
+            writeTo(writer);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return writer.toString();
+    }
+}
@@ -31,4 +31,24 @@ public class TickTimer {
         return false;
     }
 
+    // same as calling tick() the given number of times, returns whether the timer fired at all
+    public boolean skip(int ticks) {
+        mValue -= ticks;
+
+        if (mValue > 0f) {
+            return false;
+        }
+
+        // tick() adds the reload value once per firing, which keeps the value in (0, reload value]
+        if (mReloadValue > 0f) {
+            mValue += mReloadValue * ((int) Math.floor(-mValue / mReloadValue) + 1);
+        }
+        return true;
+    }
+
+    // number of tick() calls until the timer fires
+    public int getTicksLeft() {
+        return Math.max(1, (int) Math.ceil(mValue));
+    }
+
 }
@@ -1,5 +1,6 @@
 package ch.logixisland.anuto.engine.logic.map;
 
+import java.util.Arrays;
 import java.util.List;
 
 import ch.logixisland.anuto.util.math.Vector2;
@@ -8,12 +9,127 @@ public class MapPath {
 
     private final List<Vector2> mWayPoints;
 
+    // arc length from the first way point to way point i
+    private final float[] mDistances;
+
+    // unit direction of the segment from way point i to way point i + 1
+    private final Vector2[] mDirections;
+
     public MapPath(List<Vector2> wayPoints) {
         mWayPoints = wayPoints;
+        mDistances = new float[wayPoints.size()];
+        mDirections = new Vector2[Math.max(wayPoints.size() - 1, 0)];
+
+        for (int i = 1; i < wayPoints.size(); i++) {
+            Vector2 from = wayPoints.get(i - 1);
+            Vector2 to = wayPoints.get(i);
+            float length = from.distanceTo(to);
+
+            mDistances[i] = mDistances[i - 1] + length;
+            mDirections[i - 1] = length > 0f ? from.directionTo(to) : new Vector2();
+        }
     }
 
     public List<Vector2> getWayPoints() {
         return mWayPoints;
     }
 
+    public float getLength() {
+        return mDistances.length > 0 ? mDistances[mDistances.length - 1] : 0f;
+    }
+
+    public float getDistance(int wayPointIndex) {
+        return mDistances[wayPointIndex];
+    }
+
+    public Vector2 getSegmentDirection(int segmentIndex) {
+        return mDirections[segmentIndex];
+    }
+
+    // index of the first way point further along the path than the given distance (at least 1)
+    public int getNextWayPointIndex(float distance) {
+        int low = 1;
+        int high = mDistances.length - 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (mDistances[mid] > distance) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+    // distance is clamped to the start and the end of the path
+    public Vector2 getPositionAt(float distance, Vector2 out) {
+        if (distance <= 0f || mDirections.length == 0) {
+            return out.set(mWayPoints.get(0));
+        }
+
+        if (distance >= getLength()) {
+            return out.set(mWayPoints.get(mWayPoints.size() - 1));
+        }
+
+        int segmentIndex = getNextWayPointIndex(distance) - 1;
+        return out.set(mDirections[segmentIndex])
+                .mul(distance - mDistances[segmentIndex])
+                .add(mWayPoints.get(segmentIndex));
+    }
+
+    // start and end of the parts of the path within the circle, ordered by distance along the path
+    public float[] getProgressIntervalsInRange(Vector2 center, float range) {
+        float[] intervals = new float[2 * mDirections.length];
+        int count = 0;
+
+        for (int i = 0; i < mDirections.length; i++) {
+            Vector2 from = mWayPoints.get(i);
+            Vector2 direction = mDirections[i];
+            float fx = from.x() - center.x();
+            float fy = from.y() - center.y();
+
+            // solves |from + t * direction - center| = range for t
+            float b = fx * direction.x() + fy * direction.y();
+            float c = fx * fx + fy * fy - range * range;
+            float discriminant = b * b - c;
+
+            if (discriminant < 0f) {
+                continue;
+            }
+
+            float root = (float) Math.sqrt(discriminant);
+            float start = Math.max(-b - root, 0f) + mDistances[i];
+            float end = Math.min(-b + root, mDistances[i + 1] - mDistances[i]) + mDistances[i];
+
+            if (start > end) {
+                continue;
+            }
+
+            if (count > 0 && start <= intervals[count - 1]) {
+                intervals[count - 1] = Math.max(intervals[count - 1], end);
+            } else {
+                intervals[count++] = start;
+                intervals[count++] = end;
+            }
+        }
+
+        return Arrays.copyOf(intervals, count);
+    }
+
+    public boolean hasWayPoints(List<Vector2> wayPoints) {
+        if (wayPoints.size() != mWayPoints.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < wayPoints.size(); i++) {
+            if (wayPoints.get(i).distanceSquaredTo(mWayPoints.get(i)) > 0f) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
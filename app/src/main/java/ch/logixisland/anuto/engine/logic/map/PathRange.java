@@ -0,0 +1,48 @@
+package ch.logixisland.anuto.engine.logic.map;
+
+import java.util.List;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+// the parts of the paths of a map within a circle, as path progress intervals per path
+public class PathRange {
+
+    private final GameMap mGameMap;
+    private final float mCenterX;
+    private final float mCenterY;
+    private final float mRange;
+    private final float[][] mIntervals;
+
+    public PathRange(GameMap gameMap, Vector2 center, float range) {
+        List<MapPath> paths = gameMap.getPaths();
+
+        mGameMap = gameMap;
+        mCenterX = center.x();
+        mCenterY = center.y();
+        mRange = range;
+        mIntervals = new float[paths.size()][];
+
+        for (int i = 0; i < paths.size(); i++) {
+            mIntervals[i] = paths.get(i).getProgressIntervalsInRange(center, range);
+        }
+    }
+
+    public boolean matches(GameMap gameMap, Vector2 center, float range) {
+        return mGameMap == gameMap && mCenterX == center.x() && mCenterY == center.y() && mRange == range;
+    }
+
+    public GameMap getGameMap() {
+        return mGameMap;
+    }
+
+    public boolean isInRange(Vector2 position) {
+        float dx = position.x() - mCenterX;
+        float dy = position.y() - mCenterY;
+        return dx * dx + dy * dy <= mRange * mRange;
+    }
+
+    // start and end of every interval of the path with the given index in GameMap.getPaths()
+    public float[] getIntervals(int pathIndex) {
+        return mIntervals[pathIndex];
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.container.KeyValueWriter;
 
 public class GamePersister {
 
@@ -30,4 +31,16 @@ public class GamePersister {
             persister.writeState(gameState);
         }
     }
+
+    public void writeState(KeyValueWriter writer) {
+        for (Persister persister : mPersisterList) {
+            if (persister instanceof StreamingPersister) {
+                ((StreamingPersister) persister).writeState(writer);
+            } else {
+                KeyValueStore gameState = new KeyValueStore();
+                persister.writeState(gameState);
+                writer.putAll(gameState);
+            }
+        }
+    }
 }
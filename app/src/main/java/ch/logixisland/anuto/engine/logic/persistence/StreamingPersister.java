@@ -0,0 +1,8 @@
+package ch.logixisland.anuto.engine.logic.persistence;
+
+import ch.logixisland.anuto.util.container.KeyValueWriter;
+
+// for persisters with large state, writes it without building a KeyValueStore first
+public interface StreamingPersister extends Persister {
+    void writeState(KeyValueWriter writer);
+}
@@ -0,0 +1,206 @@
+package ch.logixisland.anuto.engine.render;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Shader;
+import android.os.Build;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Collects textured quads and filled rects and draws all quads of a texture and all rects with one
+// drawVertices call each, instead of a save/transform/draw/restore sequence per drawable. Pending
+// batches are drawn on flush(), so drawables that are not batched keep their order relative to them.
+public class BatchRenderer {
+
+    private static final int INITIAL_QUAD_CAPACITY = 64;
+
+    // vertex indices are shorts
+    private static final int MAX_QUADS = (Short.MAX_VALUE + 1) / 4;
+
+    private static class Batch {
+        private final Paint mPaint = new Paint();
+        private float[] mVertices = new float[INITIAL_QUAD_CAPACITY * 8];
+        private float[] mTexCoords;
+        private int[] mColors;
+        private int mQuadCount;
+        private boolean mPending;
+
+        private Batch(Bitmap texture) {
+            if (texture != null) {
+                mPaint.setShader(new BitmapShader(texture, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP));
+                mTexCoords = new float[mVertices.length];
+            } else {
+                mColors = new int[mVertices.length / 2];
+            }
+        }
+
+        private int addQuad() {
+            if (mQuadCount * 8 == mVertices.length) {
+                mVertices = Arrays.copyOf(mVertices, mVertices.length * 2);
+
+                if (mTexCoords != null) {
+                    mTexCoords = Arrays.copyOf(mTexCoords, mVertices.length);
+                } else {
+                    mColors = Arrays.copyOf(mColors, mVertices.length / 2);
+                }
+            }
+
+            return mQuadCount++ * 8;
+        }
+    }
+
+    private final Map<Bitmap, Batch> mTextureBatches = new HashMap<>();
+    private final Batch mRectBatch = new Batch(null);
+    private final List<Batch> mPendingBatches = new ArrayList<>();
+
+    private final float[] mCorners = new float[8];
+    private short[] mIndices = new short[0];
+
+    private Canvas mCanvas;
+    private int mDrawCallCount;
+
+    // hardware canvases only support drawVertices from Android 10 on
+    public static boolean isSupported() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q;
+    }
+
+    public void begin(Canvas canvas) {
+        mCanvas = canvas;
+        mDrawCallCount = 0;
+    }
+
+    public void end() {
+        flush();
+        mCanvas = null;
+    }
+
+    public int getDrawCallCount() {
+        return mDrawCallCount;
+    }
+
+    // for drawables drawn directly on the canvas
+    public void countDrawCall() {
+        mDrawCallCount++;
+    }
+
+    public void addQuad(Bitmap texture, Matrix matrix, RectF bounds, Rect source) {
+        Batch batch = mTextureBatches.get(texture);
+
+        if (batch == null) {
+            batch = new Batch(texture);
+            mTextureBatches.put(texture, batch);
+        }
+
+        mCorners[0] = bounds.left;
+        mCorners[1] = bounds.top;
+        mCorners[2] = bounds.right;
+        mCorners[3] = bounds.top;
+        mCorners[4] = bounds.right;
+        mCorners[5] = bounds.bottom;
+        mCorners[6] = bounds.left;
+        mCorners[7] = bounds.bottom;
+
+        int offset = addToBatch(batch);
+        matrix.mapPoints(batch.mVertices, offset, mCorners, 0, 4);
+
+        float[] texCoords = batch.mTexCoords;
+        texCoords[offset] = source.left;
+        texCoords[offset + 1] = source.top;
+        texCoords[offset + 2] = source.right;
+        texCoords[offset + 3] = source.top;
+        texCoords[offset + 4] = source.right;
+        texCoords[offset + 5] = source.bottom;
+        texCoords[offset + 6] = source.left;
+        texCoords[offset + 7] = source.bottom;
+        flushIfFull(batch);
+    }
+
+    public void addRect(int color, float left, float top, float right, float bottom) {
+        Batch batch = mRectBatch;
+        int offset = addToBatch(batch);
+
+        float[] vertices = batch.mVertices;
+        vertices[offset] = left;
+        vertices[offset + 1] = top;
+        vertices[offset + 2] = right;
+        vertices[offset + 3] = top;
+        vertices[offset + 4] = right;
+        vertices[offset + 5] = bottom;
+        vertices[offset + 6] = left;
+        vertices[offset + 7] = bottom;
+        Arrays.fill(batch.mColors, offset / 2, offset / 2 + 4, color);
+        flushIfFull(batch);
+    }
+
+    public void flush() {
+        for (Batch batch : mPendingBatches) {
+            draw(batch);
+        }
+
+        mPendingBatches.clear();
+    }
+
+    // drops the batches of textures that are no longer used
+    public void clear() {
+        mTextureBatches.clear();
+    }
+
+    private int addToBatch(Batch batch) {
+        if (!batch.mPending) {
+            batch.mPending = true;
+            mPendingBatches.add(batch);
+        }
+
+        return batch.addQuad();
+    }
+
+    private void flushIfFull(Batch batch) {
+        if (batch.mQuadCount == MAX_QUADS) {
+            mPendingBatches.remove(batch);
+            draw(batch);
+        }
+    }
+
+    private void draw(Batch batch) {
+        int indexCount = batch.mQuadCount * 6;
+
+        if (mIndices.length < indexCount) {
+            growIndices(indexCount);
+        }
+
+        mCanvas.drawVertices(Canvas.VertexMode.TRIANGLES, batch.mQuadCount * 8,
+                batch.mVertices, 0, batch.mTexCoords, 0, batch.mColors, 0,
+                mIndices, 0, indexCount, batch.mPaint);
+
+        batch.mQuadCount = 0;
+        batch.mPending = false;
+        mDrawCallCount++;
+    }
+
+    // two triangles per quad, the same for all batches
+    private void growIndices(int indexCount) {
+        int oldQuads = mIndices.length / 6;
+        int newQuads = Math.min(Math.max(indexCount / 6, oldQuads * 2), MAX_QUADS);
+        mIndices = Arrays.copyOf(mIndices, newQuads * 6);
+
+        for (int quad = oldQuads; quad < newQuads; quad++) {
+            int index = quad * 6;
+            int vertex = quad * 4;
+            mIndices[index] = (short) vertex;
+            mIndices[index + 1] = (short) (vertex + 1);
+            mIndices[index + 2] = (short) (vertex + 2);
+            mIndices[index + 3] = (short) vertex;
+            mIndices[index + 4] = (short) (vertex + 2);
+            mIndices[index + 5] = (short) (vertex + 3);
+        }
+    }
+}
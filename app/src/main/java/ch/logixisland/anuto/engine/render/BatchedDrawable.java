@@ -0,0 +1,6 @@
+package ch.logixisland.anuto.engine.render;
+
+public interface BatchedDrawable extends Drawable {
+    // returns false if the drawable has to be drawn on its own this time
+    boolean addToBatch(BatchRenderer batch);
+}
@@ -0,0 +1,9 @@
+package ch.logixisland.anuto.engine.render;
+
+import android.graphics.RectF;
+
+public interface BoundedDrawable extends Drawable {
+    // area covered in game coordinates, called by the renderer right before the drawable is batched
+    // or drawn, drawables outside of the visible area are skipped
+    void getBounds(RectF bounds);
+}
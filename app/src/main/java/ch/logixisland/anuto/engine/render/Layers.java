@@ -4,8 +4,11 @@ public final class Layers {
     private Layers() {
     }
 
+    public static final int PATH = -10;
     public static final int BOTTOM = 0;
     public static final int PLATEAU = 10;
+    // above the static layers, which are only rasterized when they change
+    public static final int GROUND = 15;
     public static final int TOWER_BASE = 20;
     public static final int ENEMY = 30;
     public static final int TOWER_LOWER = 39;
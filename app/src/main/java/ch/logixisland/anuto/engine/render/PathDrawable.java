@@ -4,20 +4,23 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import ch.logixisland.anuto.engine.logic.map.MapPath;
 import ch.logixisland.anuto.util.math.Vector2;
-import android.util.Log;
 
 import java.util.List;
 
 public class PathDrawable implements Drawable {
 
+    private final Renderer mRenderer;
     private final List<MapPath> mPaths;
     private final Paint mPathPaint;
     private final Paint mPointPaint;
     private final Paint mStartPointPaint; // 起始点画笔（蓝色填充）
     private final Paint mStartCirclePaint; // 起始点外圈画笔（白色边框）
+    private final float[][] mLines;
+    private final float[][] mPoints;
     private boolean mVisible;
 
-    public PathDrawable(List<MapPath> paths) {
+    public PathDrawable(List<MapPath> paths, Renderer renderer) {
+        mRenderer = renderer;
         mPaths = paths;
 
         // 路径线条的画笔 - 半透明红色
@@ -46,15 +49,24 @@ public class PathDrawable implements Drawable {
         mStartCirclePaint.setStyle(Paint.Style.STROKE);
         mStartCirclePaint.setAntiAlias(true);
 
-        mVisible = true;
+        // 路径不会改变，线段和路径点只计算一次
+        mLines = new float[paths.size()][];
+        mPoints = new float[paths.size()][];
+
+        for (int i = 0; i < paths.size(); i++) {
+            List<Vector2> wayPoints = paths.get(i).getWayPoints();
+            mLines[i] = createLines(wayPoints);
+            mPoints[i] = createPoints(wayPoints);
+        }
 
-        // 添加初始化日志
-        Log.d("PathDrawable", "PathDrawable initialized with " + (paths != null ? paths.size() : 0) + " paths");
+        mVisible = true;
     }
 
     public void setVisible(boolean visible) {
-        mVisible = visible;
-        Log.d("PathDrawable", "Visibility set to: " + visible);
+        if (mVisible != visible) {
+            mVisible = visible;
+            mRenderer.invalidateStaticLayers();
+        }
     }
 
     public boolean isVisible() {
@@ -63,76 +75,66 @@ public class PathDrawable implements Drawable {
 
     @Override
     public int getLayer() {
-        return -10; // 较低图层，确保在背景之上但在其他实体之下
+        return Layers.PATH; // 较低图层，确保在背景之上但在其他实体之下
     }
 
     @Override
     public void draw(Canvas canvas) {
         if (!mVisible) {
-            Log.d("PathDrawable", "Not visible, skipping draw");
-            return;
-        }
-
-        if (mPaths == null) {
-            Log.d("PathDrawable", "Paths are null, skipping draw");
             return;
         }
 
-        Log.d("PathDrawable", "Starting draw with " + mPaths.size() + " paths");
-
-        int pathCount = 0;
-        int pointCount = 0;
-
-        for (MapPath path : mPaths) {
-            pathCount++;
-            List<Vector2> wayPoints = path.getWayPoints();
-            if (wayPoints == null) {
-                Log.d("PathDrawable", "WayPoints is null for path " + pathCount);
-                continue;
-            }
+        for (int i = 0; i < mPaths.size(); i++) {
+            List<Vector2> wayPoints = mPaths.get(i).getWayPoints();
 
             if (wayPoints.size() < 2) {
-                Log.d("PathDrawable", "Way points less than 2, skipping path. Count: " + wayPoints.size());
                 continue;
             }
 
-            Log.d("PathDrawable", "Drawing path " + pathCount + " with " + wayPoints.size() + " way points");
-
             // 绘制路径线段
-            for (int i = 0; i < wayPoints.size() - 1; i++) {
-                Vector2 start = wayPoints.get(i);
-                Vector2 end = wayPoints.get(i + 1);
-                canvas.drawLine(start.x(), start.y(), end.x(), end.y(), mPathPaint);
-            }
+            canvas.drawLines(mLines[i], mPathPaint);
 
             // 绘制路径点（绿色）
-            for (int i = 0; i < wayPoints.size(); i++) {
-                Vector2 point = wayPoints.get(i);
-                canvas.drawPoint(point.x(), point.y(), mPointPaint);
-                pointCount++;
-            }
+            canvas.drawPoints(mPoints[i], mPointPaint);
 
             // 在起始位置（敌人生成位置）绘制明显的标记
-            if (!wayPoints.isEmpty()) {
-                Vector2 startPoint = wayPoints.get(0); // 第一个点就是敌人生成位置
+            Vector2 startPoint = wayPoints.get(0); // 第一个点就是敌人生成位置
 
-                Log.d("PathDrawable", "Start point coordinates: x=" + startPoint.x() + ", y=" + startPoint.y());
+            // 大幅增加标记尺寸
+            float outerRadius = 1.5f; // 外圈半径 - 大幅增加
+            float innerRadius = 1.2f; // 内圈半径 - 大幅增加
 
-                // 大幅增加标记尺寸
-                float outerRadius = 1.5f; // 外圈半径 - 大幅增加
-                float innerRadius = 1.2f; // 内圈半径 - 大幅增加
+            // 绘制白色外圈（边框）
+            canvas.drawCircle(startPoint.x(), startPoint.y(), outerRadius, mStartCirclePaint);
 
-                // 绘制白色外圈（边框）
-                canvas.drawCircle(startPoint.x(), startPoint.y(), outerRadius, mStartCirclePaint);
+            // 绘制红色内圈（填充）- 改为红色更容易看到
+            canvas.drawCircle(startPoint.x(), startPoint.y(), innerRadius, mStartPointPaint);
+        }
+    }
 
-                // 绘制红色内圈（填充）- 改为红色更容易看到
-                canvas.drawCircle(startPoint.x(), startPoint.y(), innerRadius, mStartPointPaint);
+    private static float[] createLines(List<Vector2> wayPoints) {
+        float[] lines = new float[Math.max(wayPoints.size() - 1, 0) * 4];
 
-                Log.d("PathDrawable", "Drawn enhanced start marker at: " + startPoint.x() + ", " + startPoint.y() +
-                        " with radii: outer=" + outerRadius + ", inner=" + innerRadius);
-            }
+        for (int i = 0; i < wayPoints.size() - 1; i++) {
+            Vector2 start = wayPoints.get(i);
+            Vector2 end = wayPoints.get(i + 1);
+            lines[i * 4] = start.x();
+            lines[i * 4 + 1] = start.y();
+            lines[i * 4 + 2] = end.x();
+            lines[i * 4 + 3] = end.y();
+        }
+
+        return lines;
+    }
+
+    private static float[] createPoints(List<Vector2> wayPoints) {
+        float[] points = new float[wayPoints.size() * 2];
+
+        for (int i = 0; i < wayPoints.size(); i++) {
+            points[i * 2] = wayPoints.get(i).x();
+            points[i * 2 + 1] = wayPoints.get(i).y();
         }
 
-        Log.d("PathDrawable", "Finished drawing. Total paths: " + pathCount + ", total points: " + pointCount);
+        return points;
     }
 }
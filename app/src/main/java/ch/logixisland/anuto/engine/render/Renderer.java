@@ -3,30 +3,68 @@ package ch.logixisland.anuto.engine.render;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
+import android.graphics.Picture;
 import android.graphics.RectF;
 import android.view.View;
 
 import java.lang.ref.WeakReference;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
+import ch.logixisland.anuto.engine.logic.loop.GameMetrics;
 import ch.logixisland.anuto.util.container.SafeMultiMap;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class Renderer {
 
+    // the draw commands of one frame, recorded in game coordinates relative to the game rect
+    private static class Snapshot {
+        private final Picture mPicture = new Picture();
+        private final RectF mGameRect = new RectF();
+        private boolean mRecorded;
+        private Bitmap mStaticLayers;
+        private float mStaticLayersLeft;
+        private float mStaticLayersTop;
+    }
+
+    private static final int SNAPSHOT_INDEX_MASK = 0x3;
+    private static final int SNAPSHOT_NEW_FLAG = 0x4;
+
     private final Viewport mViewport;
     private final FrameRateLogger mFrameRateLogger;
+    private final GameMetrics mGameMetrics;
     private final SafeMultiMap<Drawable> mDrawables = new SafeMultiMap<>();
-    private final Lock mLock = new ReentrantLock(true);
+    private final BatchRenderer mBatchRenderer = new BatchRenderer();
+    private final boolean mBatchingSupported = BatchRenderer.isSupported();
+    private final RectF mBounds = new RectF();
+    private int mDrawnCount;
+    private int mCulledCount;
+
+    // the background and all layers up to the threshold are rasterized once at screen resolution
+    // and only drawn again when something changes in them
+    private int mStaticLayerThreshold = Layers.PLATEAU;
+    private volatile boolean mStaticLayersValid;
+    private Bitmap mStaticLayers;
+    private Matrix mStaticLayersScreenMatrix;
+    private float mStaticLayersLeft;
+    private float mStaticLayersTop;
+
+    // triple buffer: the game thread records into the back snapshot, the UI thread draws the front
+    // snapshot and both threads swap with the published one, so neither ever waits for the other
+    private final Snapshot[] mSnapshots = {new Snapshot(), new Snapshot(), new Snapshot()};
+    private final AtomicInteger mPublishedSnapshot = new AtomicInteger(0);
+    private int mBackSnapshot = 1;
+    private int mFrontSnapshot = 2;
 
     private int mBackgroundColor;
     private WeakReference<View> mViewRef;
 
-    public Renderer(Viewport viewport, FrameRateLogger frameRateLogger) {
+    public Renderer(Viewport viewport, FrameRateLogger frameRateLogger, GameMetrics gameMetrics) {
         mViewport = viewport;
         mFrameRateLogger = frameRateLogger;
+        mGameMetrics = gameMetrics;
         mViewRef = new WeakReference<>(null);
     }
 
@@ -36,22 +74,74 @@ public class Renderer {
 
     public void add(Drawable obj) {
         mDrawables.add(obj.getLayer(), obj);
+
+        if (obj.getLayer() <= mStaticLayerThreshold) {
+            invalidateStaticLayers();
+        }
     }
 
     public void remove(Drawable obj) {
         mDrawables.remove(obj.getLayer(), obj);
+
+        if (obj.getLayer() <= mStaticLayerThreshold) {
+            invalidateStaticLayers();
+        }
     }
 
     public void clear() {
         mDrawables.clear();
+        mBatchRenderer.clear();
+        invalidateStaticLayers();
+    }
+
+    // drawables in the static layers must call this when their appearance changes
+    public void invalidateStaticLayers() {
+        mStaticLayersValid = false;
     }
 
-    public void lock() {
-        mLock.lock();
+    public void setStaticLayerThreshold(int layer) {
+        mStaticLayerThreshold = layer;
+        invalidateStaticLayers();
     }
 
-    public void unlock() {
-        mLock.unlock();
+    // must be called on the game thread, between ticks
+    public void compact() {
+        mDrawables.compact();
+    }
+
+    // must be called on the game thread, between ticks
+    public void publishSnapshot() {
+        RectF gameRect = mViewport.getGameClipRect();
+
+        if (gameRect == null) {
+            return;
+        }
+
+        long start = mGameMetrics.startTimer();
+        updateStaticLayers(gameRect);
+
+        Snapshot snapshot = mSnapshots[mBackSnapshot];
+        snapshot.mGameRect.set(gameRect);
+        snapshot.mStaticLayers = mStaticLayers;
+        snapshot.mStaticLayersLeft = mStaticLayersLeft;
+        snapshot.mStaticLayersTop = mStaticLayersTop;
+
+        Canvas canvas = snapshot.mPicture.beginRecording(
+                (int) Math.ceil(gameRect.width()),
+                (int) Math.ceil(gameRect.height())
+        );
+        canvas.translate(-gameRect.left, -gameRect.top);
+        int minLayer = mStaticLayers != null ? mStaticLayerThreshold + 1 : Integer.MIN_VALUE;
+        int drawCallCount = drawEntities(canvas, gameRect, minLayer, Integer.MAX_VALUE);
+        snapshot.mPicture.endRecording();
+        snapshot.mRecorded = true;
+
+        mBackSnapshot = mPublishedSnapshot.getAndSet(mBackSnapshot | SNAPSHOT_NEW_FLAG) & SNAPSHOT_INDEX_MASK;
+
+        mGameMetrics.stopTimer(GameMetrics.PHASE_SNAPSHOT, start);
+        mGameMetrics.count(GameMetrics.COUNTER_DRAW_CALLS, drawCallCount);
+        mGameMetrics.count(GameMetrics.COUNTER_DRAWN, mDrawnCount);
+        mGameMetrics.count(GameMetrics.COUNTER_CULLED, mCulledCount);
     }
 
     public void invalidate() {
@@ -62,36 +152,139 @@ public class Renderer {
         }
     }
 
+    // must not be used while the game thread is running
     public Bitmap getScreenshot() {
         RectF mapRect = mViewport.getScreenGameRect();
         Bitmap bitmap = Bitmap.createBitmap(Math.round(mapRect.width()), Math.round(mapRect.height()), Bitmap.Config.ARGB_8888);
         Canvas canvas = new Canvas(bitmap);
-        draw(canvas);
+        drawBackground(canvas, mViewport.getGameClipRect());
+        drawEntities(canvas, mViewport.getGameClipRect(), Integer.MIN_VALUE, Integer.MAX_VALUE);
         return bitmap;
     }
 
     public void draw(Canvas canvas) {
-        mLock.lock();
+        long start = mGameMetrics.startTimer();
 
-        canvas.drawColor(Color.BLACK);
-        canvas.concat(mViewport.getScreenMatrix());
-        canvas.clipRect(mViewport.getGameClipRect());
-        canvas.drawColor(mBackgroundColor);
-
-        for (Drawable obj : mDrawables) {
-            obj.draw(canvas);
+        if ((mPublishedSnapshot.get() & SNAPSHOT_NEW_FLAG) != 0) {
+            mFrontSnapshot = mPublishedSnapshot.getAndSet(mFrontSnapshot) & SNAPSHOT_INDEX_MASK;
         }
 
-        mLock.unlock();
+        Snapshot snapshot = mSnapshots[mFrontSnapshot];
+
+        if (snapshot.mRecorded) {
+            if (snapshot.mStaticLayers != null) {
+                canvas.drawColor(Color.BLACK);
+                canvas.drawBitmap(snapshot.mStaticLayers, snapshot.mStaticLayersLeft, snapshot.mStaticLayersTop, null);
+                canvas.concat(mViewport.getScreenMatrix());
+                canvas.clipRect(snapshot.mGameRect);
+            } else {
+                drawBackground(canvas, snapshot.mGameRect);
+            }
+
+            canvas.translate(snapshot.mGameRect.left, snapshot.mGameRect.top);
+            canvas.drawPicture(snapshot.mPicture);
+        } else {
+            canvas.drawColor(Color.BLACK);
+        }
 
         mFrameRateLogger.incrementRenderCount();
+        mGameMetrics.stopTimer(GameMetrics.PHASE_DRAW, start);
+        mGameMetrics.count(GameMetrics.COUNTER_FRAMES, 1);
     }
 
     public void setBackgroundColor(int backgroundColor) {
         mBackgroundColor = backgroundColor;
+        invalidateStaticLayers();
     }
 
     public boolean isPositionVisible(Vector2 position) {
         return mViewport.getGameClipRect().contains(position.x(), position.y());
     }
+
+    private void drawBackground(Canvas canvas, RectF gameRect) {
+        canvas.drawColor(Color.BLACK);
+        canvas.concat(mViewport.getScreenMatrix());
+        canvas.clipRect(gameRect);
+        canvas.drawColor(mBackgroundColor);
+    }
+
+    // a new bitmap is used for every update, the UI thread may still draw the previous one
+    private void updateStaticLayers(RectF gameRect) {
+        Matrix screenMatrix = mViewport.getScreenMatrix();
+
+        if (mStaticLayersValid && mStaticLayersScreenMatrix == screenMatrix) {
+            return;
+        }
+
+        mStaticLayersValid = true;
+        mStaticLayersScreenMatrix = screenMatrix;
+        mStaticLayers = null;
+
+        RectF screenRect = mViewport.getScreenGameRect();
+        mStaticLayersLeft = (float) Math.floor(screenRect.left);
+        mStaticLayersTop = (float) Math.floor(screenRect.top);
+        int width = (int) Math.ceil(screenRect.right) - (int) mStaticLayersLeft;
+        int height = (int) Math.ceil(screenRect.bottom) - (int) mStaticLayersTop;
+
+        // e.g. headless games, the static layers are then drawn with the others
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        canvas.translate(-mStaticLayersLeft, -mStaticLayersTop);
+        canvas.concat(screenMatrix);
+        canvas.clipRect(gameRect);
+        canvas.drawColor(mBackgroundColor);
+        drawEntities(canvas, gameRect, Integer.MIN_VALUE, mStaticLayerThreshold);
+        mStaticLayers = bitmap;
+    }
+
+    // consecutive drawables of a layer are batched, returns the number of draw calls
+    private int drawEntities(Canvas canvas, RectF visibleRect, int minLayer, int maxLayer) {
+        mBatchRenderer.begin(canvas);
+        mDrawnCount = 0;
+        mCulledCount = 0;
+        int layer = Integer.MIN_VALUE;
+
+        StreamIterator<Drawable> iterator = mDrawables.iterator();
+
+        while (iterator.hasNext()) {
+            Drawable obj = iterator.next();
+
+            if (obj.getLayer() < minLayer || obj.getLayer() > maxLayer) {
+                continue;
+            }
+
+            if (obj.getLayer() != layer) {
+                mBatchRenderer.flush();
+                layer = obj.getLayer();
+            }
+
+            if (obj instanceof BoundedDrawable) {
+                ((BoundedDrawable) obj).getBounds(mBounds);
+
+                if (!RectF.intersects(visibleRect, mBounds)) {
+                    mCulledCount++;
+                    continue;
+                }
+            }
+
+            mDrawnCount++;
+
+            if (mBatchingSupported && obj instanceof BatchedDrawable && ((BatchedDrawable) obj).addToBatch(mBatchRenderer)) {
+                continue;
+            }
+
+            mBatchRenderer.flush();
+            obj.draw(canvas);
+            mBatchRenderer.countDrawCall();
+        }
+
+        iterator.close();
+
+        mBatchRenderer.end();
+        return mBatchRenderer.getDrawCallCount();
+    }
 }
@@ -0,0 +1,38 @@
+package ch.logixisland.anuto.engine.render;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+
+// Only accumulates the transformations applied to it, nothing is drawn.
+public class TransformCanvas extends Canvas {
+
+    private final Matrix mTransform = new Matrix();
+
+    public Matrix getTransform() {
+        return mTransform;
+    }
+
+    public void resetTransform() {
+        mTransform.reset();
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        mTransform.preTranslate(dx, dy);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+        mTransform.preRotate(degrees);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        mTransform.preScale(sx, sy);
+    }
+
+    @Override
+    public void concat(Matrix matrix) {
+        mTransform.preConcat(matrix);
+    }
+}
@@ -36,7 +36,7 @@ public class AnimatedSprite extends SpriteInstance {
     }
 
     public void setSequenceForward() {
-        int bitmapCount = getTemplate().getBitmapCount();
+        int bitmapCount = getTemplate().getFrameCount();
         int[] seq = new int[bitmapCount];
 
         for (int i = 0; i < seq.length; i++) {
@@ -47,7 +47,7 @@ public class AnimatedSprite extends SpriteInstance {
     }
 
     public void setSequenceForwardBackward() {
-        int bitmapCount = getTemplate().getBitmapCount();
+        int bitmapCount = getTemplate().getFrameCount();
         int[] seq = new int[bitmapCount * 2 - 2];
 
         for (int i = 0; i < seq.length; i++) {
@@ -62,7 +62,7 @@ public class AnimatedSprite extends SpriteInstance {
     }
 
     public void setSequenceBackward() {
-        int bitmapCount = getTemplate().getBitmapCount();
+        int bitmapCount = getTemplate().getFrameCount();
         int[] seq = new int[bitmapCount];
 
         for (int i = 0; i < seq.length; i++) {
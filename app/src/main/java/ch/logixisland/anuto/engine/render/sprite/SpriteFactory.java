@@ -2,33 +2,60 @@ package ch.logixisland.anuto.engine.render.sprite;
 
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
+import android.graphics.Rect;
 
 import ch.logixisland.anuto.engine.theme.ThemeManager;
 
 public class SpriteFactory {
 
-    private final Context mContext;
     private final ThemeManager mThemeManager;
+    private final SpriteSheetCache mSheetCache;
+    private final boolean mHeadless;
+
+    private Bitmap mPlaceholder;
 
     public SpriteFactory(Context context, ThemeManager themeManager) {
-        mContext = context;
+        this(context, themeManager, false);
+    }
+
+    public SpriteFactory(Context context, ThemeManager themeManager, boolean headless) {
         mThemeManager = themeManager;
+        mSheetCache = new SpriteSheetCache(context.getResources());
+        mHeadless = headless;
     }
 
     public SpriteTemplate createTemplate(int attrId, int spriteCount) {
+        if (mHeadless) {
+            return createPlaceholderTemplate(spriteCount);
+        }
+
         int resourceId = mThemeManager.getTheme().getResourceId(attrId);
 
-        Bitmap sheet = BitmapFactory.decodeResource(mContext.getResources(), resourceId);
-        Bitmap[] sprites = new Bitmap[spriteCount];
+        Bitmap sheet = mSheetCache.getSheet(resourceId);
+        Rect[] frames = new Rect[spriteCount];
         int spriteWidth = sheet.getWidth() / spriteCount;
         int spriteHeight = sheet.getHeight();
 
         for (int i = 0; i < spriteCount; i++) {
-            sprites[i] = Bitmap.createBitmap(sheet, spriteWidth * i, 0, spriteWidth, spriteHeight);
+            frames[i] = new Rect(spriteWidth * i, 0, spriteWidth * (i + 1), spriteHeight);
+        }
+
+        return new SpriteTemplate(sheet, frames);
+    }
+
+    // headless games never draw, so all sprites share a single pixel instead of decoded sheets
+    private SpriteTemplate createPlaceholderTemplate(int spriteCount) {
+        if (mPlaceholder == null) {
+            mPlaceholder = Bitmap.createBitmap(1, 1, Bitmap.Config.ALPHA_8);
+        }
+
+        Rect[] frames = new Rect[spriteCount];
+
+        for (int i = 0; i < spriteCount; i++) {
+            frames[i] = new Rect(0, 0, 1, 1);
         }
 
-        return new SpriteTemplate(sprites);
+        return new SpriteTemplate(mPlaceholder, frames);
     }
 
     public StaticSprite createStatic(int layer, SpriteTemplate template) {
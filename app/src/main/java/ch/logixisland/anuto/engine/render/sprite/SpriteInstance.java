@@ -1,16 +1,25 @@
 package ch.logixisland.anuto.engine.render.sprite;
 
-import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Matrix;
 import android.graphics.Paint;
+import android.graphics.RectF;
 
-import ch.logixisland.anuto.engine.render.Drawable;
+import ch.logixisland.anuto.engine.render.BatchRenderer;
+import ch.logixisland.anuto.engine.render.BatchedDrawable;
+import ch.logixisland.anuto.engine.render.BoundedDrawable;
+import ch.logixisland.anuto.engine.render.TransformCanvas;
+import ch.logixisland.anuto.util.container.SlotHandle;
 
-public abstract class SpriteInstance implements Drawable {
+public abstract class SpriteInstance implements BatchedDrawable, BoundedDrawable, SlotHandle.Owner {
+
+    // sprites are only drawn on the game thread, so they can share it
+    private static final TransformCanvas sTransformCanvas = new TransformCanvas();
 
     private final int mLayer;
     private final SpriteTemplate mTemplate;
+    private final SlotHandle mSlotHandle = new SlotHandle();
+    private final Matrix mTransform = new Matrix();
 
     private Paint mPaint;
     private SpriteTransformation mListener;
@@ -34,6 +43,11 @@ public abstract class SpriteInstance implements Drawable {
         mPaint = paint;
     }
 
+    @Override
+    public SlotHandle getSlotHandle() {
+        return mSlotHandle;
+    }
+
     @Override
     public int getLayer() {
         return mLayer;
@@ -47,10 +61,34 @@ public abstract class SpriteInstance implements Drawable {
             mListener.draw(this, canvas);
         }
 
-        Bitmap bitmap = mTemplate.getBitmaps().get(getIndex());
-        Matrix matrix = mTemplate.getMatrix();
-        canvas.drawBitmap(bitmap, matrix, mPaint);
+        canvas.concat(mTemplate.getMatrix());
+        canvas.drawBitmap(mTemplate.getSheet(), mTemplate.getFrame(getIndex()), mTemplate.getFrameBounds(), mPaint);
         canvas.restore();
     }
 
+    @Override
+    public void getBounds(RectF bounds) {
+        sTransformCanvas.resetTransform();
+
+        if (mListener != null) {
+            mListener.draw(this, sTransformCanvas);
+        }
+
+        mTransform.set(sTransformCanvas.getTransform());
+        mTransform.preConcat(mTemplate.getMatrix());
+        mTransform.mapRect(bounds, mTemplate.getFrameBounds());
+    }
+
+    // uses the transform of the preceding getBounds() call, sprites with their own paint are drawn
+    // on their own
+    @Override
+    public boolean addToBatch(BatchRenderer batch) {
+        if (mPaint != null) {
+            return false;
+        }
+
+        batch.addQuad(mTemplate.getSheet(), mTransform, mTemplate.getFrameBounds(), mTemplate.getFrame(getIndex()));
+        return true;
+    }
+
 }
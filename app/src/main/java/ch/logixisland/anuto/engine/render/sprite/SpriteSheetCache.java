@@ -0,0 +1,38 @@
+package ch.logixisland.anuto.engine.render.sprite;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+// Keeps decoded sprite sheets across game restarts. The least recently used sheets are dropped when
+// their total size exceeds the budget, templates still using them keep them alive until released.
+class SpriteSheetCache {
+
+    // fraction of the maximum heap the decoded sheets may use
+    private static final int HEAP_BUDGET_DIVISOR = 8;
+
+    private final Resources mResources;
+    private final LruCache<Integer, Bitmap> mSheets;
+
+    SpriteSheetCache(Resources resources) {
+        mResources = resources;
+        mSheets = new LruCache<Integer, Bitmap>((int) (Runtime.getRuntime().maxMemory() / 1024 / HEAP_BUDGET_DIVISOR)) {
+            @Override
+            protected int sizeOf(Integer resourceId, Bitmap sheet) {
+                return sheet.getByteCount() / 1024;
+            }
+        };
+    }
+
+    Bitmap getSheet(int resourceId) {
+        Bitmap sheet = mSheets.get(resourceId);
+
+        if (sheet == null) {
+            sheet = BitmapFactory.decodeResource(mResources, resourceId);
+            mSheets.put(resourceId, sheet);
+        }
+
+        return sheet;
+    }
+}
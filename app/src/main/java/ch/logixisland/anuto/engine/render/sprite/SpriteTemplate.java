@@ -2,27 +2,39 @@ package ch.logixisland.anuto.engine.render.sprite;
 
 import android.graphics.Bitmap;
 import android.graphics.Matrix;
-
-import java.util.Arrays;
-import java.util.List;
+import android.graphics.Rect;
+import android.graphics.RectF;
 
 import ch.logixisland.anuto.util.math.Vector2;
 
+// All frames are drawn from the same sheet, each frame is a source rect within it.
 public class SpriteTemplate {
 
-    private final List<Bitmap> mBitmaps;
+    private final Bitmap mSheet;
+    private final Rect[] mFrames;
+    private final RectF mFrameBounds;
     private final Matrix mMatrix = new Matrix();
 
-    SpriteTemplate(Bitmap... bitmaps) {
-        mBitmaps = Arrays.asList(bitmaps);
+    SpriteTemplate(Bitmap sheet, Rect... frames) {
+        mSheet = sheet;
+        mFrames = frames;
+        mFrameBounds = new RectF(0, 0, frames[0].width(), frames[0].height());
+    }
+
+    Bitmap getSheet() {
+        return mSheet;
+    }
+
+    Rect getFrame(int index) {
+        return mFrames[index];
     }
 
-    List<Bitmap> getBitmaps() {
-        return mBitmaps;
+    RectF getFrameBounds() {
+        return mFrameBounds;
     }
 
-    int getBitmapCount() {
-        return mBitmaps.size();
+    int getFrameCount() {
+        return mFrames.length;
     }
 
     Matrix getMatrix() {
@@ -34,7 +46,7 @@ public class SpriteTemplate {
     }
 
     public void setMatrix(Float width, Float height, Vector2 center, Float rotate) {
-        float aspect = (float) mBitmaps.get(0).getWidth() / mBitmaps.get(0).getHeight();
+        float aspect = mFrameBounds.width() / mFrameBounds.height();
 
         if (width == null && height == null) {
             height = 1f;
@@ -52,13 +64,13 @@ public class SpriteTemplate {
             center = new Vector2(width / 2, height / 2);
         }
 
-        float scaleX = width / mBitmaps.get(0).getWidth();
-        float scaleY = height / mBitmaps.get(0).getHeight();
+        float scaleX = width / mFrameBounds.width();
+        float scaleY = height / mFrameBounds.height();
 
         mMatrix.reset();
 
         mMatrix.postScale(1f, -1f);
-        mMatrix.postTranslate(0f, mBitmaps.get(0).getHeight());
+        mMatrix.postTranslate(0f, mFrameBounds.height());
 
         mMatrix.postScale(scaleX, scaleY);
         mMatrix.postTranslate(-center.x(), -center.y());
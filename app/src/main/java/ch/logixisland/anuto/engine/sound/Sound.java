@@ -21,7 +21,7 @@ public class Sound {
     }
 
     public void play() {
-        if (mSoundManager.isSoundEnabled()) {
+        if (mSoundPool != null && mSoundManager.isSoundEnabled()) {
             mSoundPool.play(mSoundId, mVolume, mVolume, 0, 0, 1);
         }
     }
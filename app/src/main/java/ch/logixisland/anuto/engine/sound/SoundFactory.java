@@ -20,10 +20,14 @@ public class SoundFactory {
     private final Map<Integer, Integer> mSoundMap;
 
     public SoundFactory(Context context, SoundManager soundManager) {
+        this(context, soundManager, false);
+    }
+
+    public SoundFactory(Context context, SoundManager soundManager, boolean headless) {
         mContext = context;
         mSoundManager = soundManager;
 
-        mSoundPool = new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
+        mSoundPool = headless ? null : new SoundPool(MAX_STREAMS, AudioManager.STREAM_MUSIC, 0);
         mSoundMap = new HashMap<>();
 
         // FIXME: This is a workaround because the first explosion effect has no sound otherwise
@@ -31,6 +35,10 @@ public class SoundFactory {
     }
 
     public Sound createSound(int resId) {
+        if (mSoundPool == null) {
+            return new Sound(mSoundManager, null, 0);
+        }
+
         if (!mSoundMap.containsKey(resId)) {
             int soundId = mSoundPool.load(mContext, resId, 0);
             mSoundMap.put(resId, soundId);
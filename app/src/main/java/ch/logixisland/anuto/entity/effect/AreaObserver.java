@@ -1,25 +1,27 @@
 package ch.logixisland.anuto.entity.effect;
 
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
-import ch.logixisland.anuto.engine.logic.entity.Entity;
-import ch.logixisland.anuto.engine.logic.loop.TickTimer;
 import ch.logixisland.anuto.entity.EntityTypes;
 import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public class AreaObserver implements Entity.Listener {
+// the enemies report their movements through the AreaService once the observer is started
+public class AreaObserver {
 
     private final Vector2 mPosition;
     private final float mRange;
-    private boolean mFinished;
 
     private final GameEngine mGameEngine;
+    private final AreaService mAreaService;
     private final Listener mListener;
-    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
-    private final HashSet<Enemy> mEnemiesInArea = new HashSet<>();
+    private final LinkedHashSet<Enemy> mEnemiesInArea = new LinkedHashSet<>();
+    private boolean mStarted;
+
+    // last query of the AreaService that tested this area
+    int mQuery;
 
     public interface Listener {
         void enemyEntered(Enemy enemy);
@@ -29,67 +31,131 @@ public class AreaObserver implements Entity.Listener {
 
     public AreaObserver(GameEngine gameEngine, Vector2 position, float range, Listener listener) {
         mGameEngine = gameEngine;
-        mPosition = position;
+        mAreaService = gameEngine.getService(AreaService.class);
+        // copied, the AreaService keeps the area in the cells around it
+        mPosition = new Vector2(position.x(), position.y());
         mRange = range;
         mListener = listener;
-        mFinished = false;
     }
 
-    public void tick() {
-        if (mFinished) {
+    public void start() {
+        if (mStarted) {
             return;
         }
 
-        if (!mUpdateTimer.tick()) {
-            return;
+        mStarted = true;
+        mAreaService.register(this);
+
+        StreamIterator<Enemy> enemies = mGameEngine.getEntitiesInRange(EntityTypes.ENEMY, mPosition, mRange)
+                .cast(Enemy.class);
+
+        while (enemies.hasNext()) {
+            enter(enemies.next());
         }
 
-        checkForExitedEnemies();
-        checkForEnteredEnemies();
+        enemies.close();
     }
 
     public void clean() {
+        if (!mStarted) {
+            return;
+        }
+
+        mStarted = false;
+        mAreaService.unregister(this);
+
         for (Enemy enemy : mEnemiesInArea) {
-            enemy.removeListener(this);
             mListener.enemyExited(enemy);
         }
 
         mEnemiesInArea.clear();
-        mFinished = true;
     }
 
-    private void checkForExitedEnemies() {
-        for (Iterator<Enemy> it = mEnemiesInArea.iterator(); it.hasNext(); ) {
-            Enemy enemy = it.next();
-            if (enemy.getDistanceTo(mPosition) > mRange) {
-                it.remove();
-                enemy.removeListener(this);
-                mListener.enemyExited(enemy);
-            }
+    public boolean isStarted() {
+        return mStarted;
+    }
+
+    public boolean isEmpty() {
+        return mEnemiesInArea.isEmpty();
+    }
+
+    // an enemy inside the area moves from within its bounds, so others outside them are skipped
+    void enemyMoved(Enemy enemy, Vector2 from) {
+        Vector2 to = enemy.getPosition();
+
+        if (Math.max(from.x(), to.x()) < getMinX() || Math.min(from.x(), to.x()) > getMaxX()
+                || Math.max(from.y(), to.y()) < getMinY() || Math.min(from.y(), to.y()) > getMaxY()) {
+            return;
+        }
+
+        if (isInRange(enemy.getPosition())) {
+            enter(enemy);
+        } else if (mEnemiesInArea.contains(enemy)) {
+            exit(enemy);
+        } else if (isSegmentInRange(from, enemy.getPosition())) {
+            mListener.enemyEntered(enemy);
+            mListener.enemyExited(enemy);
         }
     }
 
-    private void checkForEnteredEnemies() {
-        Iterator<Enemy> enemies = mGameEngine.getEntitiesByType(EntityTypes.ENEMY)
-                .filter(Entity.inRange(mPosition, mRange))
-                .cast(Enemy.class);
+    void enemyPlaced(Enemy enemy) {
+        if (isInRange(enemy.getPosition())) {
+            enter(enemy);
+        } else {
+            exit(enemy);
+        }
+    }
 
-        while (enemies.hasNext()) {
-            Enemy enemy = enemies.next();
+    void enemyRemoved(Enemy enemy) {
+        exit(enemy);
+    }
+
+    float getMinX() {
+        return mPosition.x() - mRange;
+    }
+
+    float getMaxX() {
+        return mPosition.x() + mRange;
+    }
+
+    float getMinY() {
+        return mPosition.y() - mRange;
+    }
+
+    float getMaxY() {
+        return mPosition.y() + mRange;
+    }
 
-            if (!mEnemiesInArea.contains(enemy)) {
-                mEnemiesInArea.add(enemy);
-                enemy.addListener(this);
-                mListener.enemyEntered(enemy);
-            }
+    private void enter(Enemy enemy) {
+        if (mEnemiesInArea.add(enemy)) {
+            mListener.enemyEntered(enemy);
+        }
+    }
+
+    private void exit(Enemy enemy) {
+        if (mEnemiesInArea.remove(enemy)) {
+            mListener.enemyExited(enemy);
         }
     }
 
-    @Override
-    public void entityRemoved(Entity entity) {
-        Enemy enemy = (Enemy) entity;
-        mEnemiesInArea.remove(enemy);
-        enemy.removeListener(this);
-        mListener.enemyExited(enemy);
+    private boolean isInRange(Vector2 position) {
+        return position.distanceSquaredTo(mPosition) <= mRange * mRange;
+    }
+
+    // tests the point of the segment closest to the center
+    private boolean isSegmentInRange(Vector2 from, Vector2 to) {
+        float dx = to.x() - from.x();
+        float dy = to.y() - from.y();
+        float length2 = dx * dx + dy * dy;
+        float t = 0f;
+
+        if (length2 > 0f) {
+            t = ((mPosition.x() - from.x()) * dx + (mPosition.y() - from.y()) * dy) / length2;
+            t = Math.max(0f, Math.min(1f, t));
+        }
+
+        float cx = from.x() + t * dx - mPosition.x();
+        float cy = from.y() + t * dy - mPosition.y();
+        return cx * cx + cy * cy <= mRange * mRange;
     }
 }
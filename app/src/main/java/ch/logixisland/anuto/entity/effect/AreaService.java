@@ -0,0 +1,147 @@
+package ch.logixisland.anuto.entity.effect;
+
+import android.util.SparseArray;
+
+import java.util.Arrays;
+
+import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Tracks the enemies within all registered areas. Enemies report every movement, which is tested
+// as a segment, so enemies passing an area within one tick are reported too. The areas are kept in
+// the grid cells their bounds cover, so a movement is only tested against the areas of the cells
+// its segment covers. Jumps (e.g. being sent back) are only tested at their destination, against
+// all areas. The arrays are copied on registration, so areas may be registered and unregistered
+// from the listeners.
+public class AreaService {
+
+    private static final float CELL_SIZE = 1f;
+    private static final AreaObserver[] NO_AREAS = new AreaObserver[0];
+
+    private AreaObserver[] mAreas = NO_AREAS;
+    private final SparseArray<AreaObserver[]> mCells = new SparseArray<>();
+    private int mQuery;
+
+    void register(AreaObserver area) {
+        mAreas = add(mAreas, area);
+
+        int minX = cell(area.getMinX());
+        int maxX = cell(area.getMaxX());
+        int minY = cell(area.getMinY());
+        int maxY = cell(area.getMaxY());
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                int key = key(x, y);
+                AreaObserver[] areas = mCells.get(key);
+                mCells.put(key, add(areas != null ? areas : NO_AREAS, area));
+            }
+        }
+    }
+
+    void unregister(AreaObserver area) {
+        AreaObserver[] remaining = remove(mAreas, area);
+
+        if (remaining == mAreas) {
+            return;
+        }
+
+        mAreas = remaining;
+
+        int minX = cell(area.getMinX());
+        int maxX = cell(area.getMaxX());
+        int minY = cell(area.getMinY());
+        int maxY = cell(area.getMaxY());
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                int key = key(x, y);
+                AreaObserver[] areas = mCells.get(key);
+
+                if (areas == null) {
+                    continue;
+                }
+
+                areas = remove(areas, area);
+
+                if (areas.length == 0) {
+                    mCells.remove(key);
+                } else {
+                    mCells.put(key, areas);
+                }
+            }
+        }
+    }
+
+    // an area covering several cells of the segment is only tested once
+    public void enemyMoved(Enemy enemy, Vector2 from) {
+        if (mAreas.length == 0) {
+            return;
+        }
+
+        Vector2 to = enemy.getPosition();
+        int minX = cell(Math.min(from.x(), to.x()));
+        int maxX = cell(Math.max(from.x(), to.x()));
+        int minY = cell(Math.min(from.y(), to.y()));
+        int maxY = cell(Math.max(from.y(), to.y()));
+        int query = ++mQuery;
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                AreaObserver[] areas = mCells.get(key(x, y));
+
+                if (areas == null) {
+                    continue;
+                }
+
+                for (AreaObserver area : areas) {
+                    if (area.mQuery != query) {
+                        area.mQuery = query;
+                        area.enemyMoved(enemy, from);
+                    }
+                }
+            }
+        }
+    }
+
+    public void enemyPlaced(Enemy enemy) {
+        for (AreaObserver area : mAreas) {
+            area.enemyPlaced(enemy);
+        }
+    }
+
+    public void enemyRemoved(Enemy enemy) {
+        for (AreaObserver area : mAreas) {
+            area.enemyRemoved(enemy);
+        }
+    }
+
+    private static int cell(float coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    // cells far apart may share a key, which only adds candidates
+    private static int key(int x, int y) {
+        return (x & 0xFFFF) << 16 | (y & 0xFFFF);
+    }
+
+    private static AreaObserver[] add(AreaObserver[] areas, AreaObserver area) {
+        AreaObserver[] result = Arrays.copyOf(areas, areas.length + 1);
+        result[areas.length] = area;
+        return result;
+    }
+
+    // returns the given array if the area is not in it
+    private static AreaObserver[] remove(AreaObserver[] areas, AreaObserver area) {
+        for (int i = 0; i < areas.length; i++) {
+            if (areas[i] == area) {
+                AreaObserver[] result = new AreaObserver[areas.length - 1];
+                System.arraycopy(areas, 0, result, 0, i);
+                System.arraycopy(areas, i + 1, result, i, result.length - i);
+                return result;
+            }
+        }
+
+        return areas;
+    }
+}
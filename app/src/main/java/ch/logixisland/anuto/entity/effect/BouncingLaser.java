@@ -14,6 +14,7 @@ import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.EntityTypes;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.Flyer;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class BouncingLaser extends Effect {
@@ -24,7 +25,9 @@ public class BouncingLaser extends Effect {
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * VISIBLE_EFFECT_DURATION));
 
-    private class LaserDrawable implements Drawable {
+    private class LaserDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
+
         private final Paint mPaint;
         private int mAlpha = ALPHA_START;
 
@@ -45,6 +48,11 @@ public class BouncingLaser extends Effect {
             mPaint.setAlpha(mAlpha);
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -129,9 +137,8 @@ public class BouncingLaser extends Effect {
                 mPrevTargets.add(mTarget);
             }
 
-            Enemy enemy = (Enemy) getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                    .filter(mPrevTargets)
-                    .min(distanceTo(mTarget.getPosition()));
+            Enemy enemy = (Enemy) getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, mTarget.getPosition(), mMaxBounceDist)
+                    .minBy(value -> !mPrevTargets.contains(value), distanceTo(mTarget.getPosition()));
 
             if (enemy != null && mTarget.getDistanceTo(enemy) <= mMaxBounceDist) {
                 getGameEngine().add(new BouncingLaser(this, enemy));
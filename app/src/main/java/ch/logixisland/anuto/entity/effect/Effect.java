@@ -12,7 +12,7 @@ public abstract class Effect extends Entity {
         Ended
     }
 
-    private final Entity mOrigin;
+    private Entity mOrigin;
     private TickTimer mTimer;
     private State mState;
 
@@ -27,6 +27,16 @@ public abstract class Effect extends Entity {
         mTimer = TickTimer.createInterval(duration);
     }
 
+    // prepares a recycled effect, which the subclass sets up afterwards
+    void reset(Entity origin) {
+        mOrigin = origin;
+        mState = State.NotStarted;
+
+        if (mTimer != null) {
+            mTimer.reset();
+        }
+    }
+
     public Entity getOrigin() {
         return mOrigin;
     }
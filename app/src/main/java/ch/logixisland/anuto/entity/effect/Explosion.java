@@ -12,6 +12,7 @@ import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.sound.Sound;
 import ch.logixisland.anuto.entity.EntityTypes;
 import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
@@ -21,13 +22,19 @@ public class Explosion extends Effect {
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * EFFECT_DURATION));
 
-    private class ExplosionDrawable implements Drawable {
+    private class ExplosionDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
+
         private final Paint mPaint;
-        private int mAlpha = ALPHA_START;
+        private int mAlpha;
 
         private ExplosionDrawable() {
             mPaint = new Paint();
             mPaint.setColor(Color.YELLOW);
+        }
+
+        private void resetVisibility() {
+            mAlpha = ALPHA_START;
             mPaint.setAlpha(mAlpha);
         }
 
@@ -41,6 +48,11 @@ public class Explosion extends Effect {
             mPaint.setAlpha(mAlpha);
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -52,21 +64,44 @@ public class Explosion extends Effect {
         }
     }
 
-    private final float mDamage;
-    private final float mRadius;
+    private float mDamage;
+    private float mRadius;
 
     private final ExplosionDrawable mDrawObject;
     private final Sound mSound;
 
+    public static Explosion obtain(Entity origin, Vector2 position, float damage, float radius) {
+        Explosion explosion = origin.getGameEngine().obtain(Explosion.class);
+
+        if (explosion == null) {
+            return new Explosion(origin, position, damage, radius);
+        }
+
+        explosion.reset(origin);
+        explosion.setup(position, damage, radius);
+        return explosion;
+    }
+
     public Explosion(Entity origin, Vector2 position, float damage, float radius) {
         super(origin, EFFECT_DURATION);
+
+        mDrawObject = new ExplosionDrawable();
+        mSound = getSoundFactory().createSound(R.raw.explosive3_bghgh);
+
+        setup(position, damage, radius);
+    }
+
+    private void setup(Vector2 position, float damage, float radius) {
         setPosition(position);
 
         mDamage = damage;
         mRadius = radius;
+        mDrawObject.resetVisibility();
+    }
 
-        mDrawObject = new ExplosionDrawable();
-        mSound = getSoundFactory().createSound(R.raw.explosive3_bghgh);
+    @Override
+    protected boolean isRecyclable() {
+        return true;
     }
 
     @Override
@@ -94,8 +129,7 @@ public class Explosion extends Effect {
     protected void effectBegin() {
         mSound.play();
 
-        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                .filter(inRange(getPosition(), mRadius))
+        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), mRadius)
                 .cast(Enemy.class);
 
         while (enemies.hasNext()) {
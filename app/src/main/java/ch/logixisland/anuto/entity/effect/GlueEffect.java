@@ -44,7 +44,7 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
 
         StaticData s = (StaticData) getStaticData();
 
-        mSprite = getSpriteFactory().createStatic(Layers.BOTTOM, s.mSpriteTemplate);
+        mSprite = getSpriteFactory().createStatic(Layers.GROUND, s.mSpriteTemplate);
         mSprite.setListener(this);
         mSprite.setIndex(RandomUtils.next(4));
 
@@ -67,6 +67,7 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
     public void init() {
         super.init();
         getGameEngine().add(mSprite);
+        mAreaObserver.start();
     }
 
     @Override
@@ -86,7 +87,6 @@ public class GlueEffect extends Effect implements SpriteTransformation, AreaObse
     public void tick() {
         super.tick();
         mPaint.setAlpha(mPaint.getAlpha() - mAlphaStep);
-        mAreaObserver.tick();
     }
 
     @Override
@@ -12,6 +12,7 @@ import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.EntityTypes;
 import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
@@ -24,10 +25,17 @@ public class HealEffect extends Effect {
     }
 
 
-    private class HealDrawable implements Drawable {
+    private class HealDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
+
         public HealDrawable() {
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -93,8 +101,7 @@ public class HealEffect extends Effect {
 
     @Override
     protected void effectBegin() {
-        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                .filter(inRange(getPosition(), mRange))
+        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), mRange)
                 .filter(mHealedEnemies)
                 .cast(Enemy.class);
 
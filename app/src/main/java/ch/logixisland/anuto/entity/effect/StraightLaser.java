@@ -14,6 +14,7 @@ import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.EntityTypes;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.Flyer;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 import ch.logixisland.anuto.util.math.Vector2;
 
@@ -27,7 +28,9 @@ public class StraightLaser extends Effect {
     private final static int ALPHA_START = 180;
     private final static int ALPHA_STEP = (int) (ALPHA_START / (GameEngine.TARGET_FRAME_RATE * VISIBLE_EFFECT_DURATION));
 
-    private class LaserDrawable implements Drawable {
+    private class LaserDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
+
         private final Paint mPaint;
         private int mAlpha = ALPHA_START;
 
@@ -48,6 +51,11 @@ public class StraightLaser extends Effect {
             mPaint.setAlpha(mAlpha);
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -9,6 +9,7 @@ import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.math.Vector2;
 
 public class TeleportEffect extends Effect implements Entity.Listener {
@@ -18,11 +19,17 @@ public class TeleportEffect extends Effect implements Entity.Listener {
     private static class StaticData {
         private Paint mPaint;
     }
-    private class TeleportDrawable implements Drawable {
+    private class TeleportDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
 
         public TeleportDrawable() {
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -40,6 +47,7 @@ public class TeleportEffect extends Effect implements Entity.Listener {
 
     private final float mDistance;
     private final Vector2 mMoveDirection;
+    private final Vector2 mMoveOffset = new Vector2();
     private final float mMoveStep;
     private final TeleportDrawable mDrawObject;
     private StaticData mStaticData;
@@ -89,7 +97,7 @@ public class TeleportEffect extends Effect implements Entity.Listener {
     @Override
     public void tick() {
         super.tick();
-        mTarget.move(Vector2.mul(mMoveDirection, mMoveStep));
+        mTarget.move(mMoveOffset.set(mMoveDirection).mul(mMoveStep));
     }
 
     @Override
@@ -9,6 +9,7 @@ import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.TickListener;
 import ch.logixisland.anuto.engine.render.Drawable;
 import ch.logixisland.anuto.engine.render.Layers;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.math.Function;
 import ch.logixisland.anuto.util.math.SampledFunction;
 
@@ -28,11 +29,17 @@ public class TeleportedMarker extends Effect implements Entity.Listener {
         }
     }
 
-    private class MarkerDrawable implements Drawable {
+    private class MarkerDrawable implements Drawable, SlotHandle.Owner {
+        private final SlotHandle mSlotHandle = new SlotHandle();
 
         private MarkerDrawable() {
         }
 
+        @Override
+        public SlotHandle getSlotHandle() {
+            return mSlotHandle;
+        }
+
         @Override
         public int getLayer() {
             return Layers.SHOT;
@@ -8,23 +8,16 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import ch.logixisland.anuto.GameSettings;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
 import ch.logixisland.anuto.entity.EntityTypes;
+import ch.logixisland.anuto.entity.effect.AreaService;
 import ch.logixisland.anuto.entity.effect.TeleportedMarker;
 import ch.logixisland.anuto.entity.tower.Tower;
-import ch.logixisland.anuto.util.iterator.Function;
 import ch.logixisland.anuto.util.math.Vector2;
 
 
 public abstract class Enemy extends Entity {
 
-    public static Function<Enemy, Float> health() {
-        return input -> input.mHealth;
-    }
-
-    public static Function<Enemy, Float> distanceRemaining() {
-        return Enemy::getDistanceRemaining;
-    }
-
     public interface Listener {
         void enemyKilled(Enemy enemy);
 
@@ -39,10 +32,23 @@ public abstract class Enemy extends Entity {
     private float mSpeedModifier;
     private int mReward;
     private int mWaveNumber;
-    private List<Vector2> mWayPoints;
+    private MapPath mPath;
     private int mWayPointIndex;
+    private float mPathProgress;
+    private boolean mPathProgressValid;
     private boolean mBeingTeleported;
     private boolean mWasTeleported;
+    private int mMovementVersion;
+
+    // set while the enemy is kept by the EnemyPathIndex
+    boolean mPathIndexed;
+
+    // scratch vectors to avoid allocations while moving
+    private final Vector2 mStep = new Vector2();
+    private final Vector2 mMoveStart = new Vector2();
+
+    private final EnemyPathIndex mPathIndex;
+    private final AreaService mAreaService;
 
     private final HealthBar mHealthBar;
 
@@ -56,6 +62,8 @@ public abstract class Enemy extends Entity {
         mHealth = enemyProperties.getHealth();
         mMaxHealth = enemyProperties.getHealth();
         mReward = enemyProperties.getReward();
+        mPathIndex = gameEngine.getService(EnemyPathIndex.class);
+        mAreaService = gameEngine.getService(AreaService.class);
 
         mHealthBar = new HealthBar(getTheme(), this);
     }
@@ -73,6 +81,14 @@ public abstract class Enemy extends Entity {
     public void init() {
         super.init();
         getGameEngine().add(mHealthBar);
+
+        if (mPathIndex != null) {
+            mPathIndex.add(this);
+        }
+
+        if (mAreaService != null) {
+            mAreaService.enemyPlaced(this);
+        }
     }
 
     @Override
@@ -80,6 +96,10 @@ public abstract class Enemy extends Entity {
         super.clean();
         getGameEngine().remove(mHealthBar);
 
+        if (mAreaService != null) {
+            mAreaService.enemyRemoved(this);
+        }
+
         for (Listener listener : mListeners) {
             listener.enemyRemoved(this);
         }
@@ -104,24 +124,52 @@ public abstract class Enemy extends Entity {
         }
 
         float stepSize = getSpeed() / GameEngine.TARGET_FRAME_RATE;
-        if (getDistanceTo(getCurrentWayPoint()) >= stepSize) {
-            move(getDirection().mul(stepSize));
+        Vector2 wayPoint = getCurrentWayPoint();
+        float distance = getDistanceTo(wayPoint);
+        if (distance >= stepSize) {
+            move(getPosition().directionTo(wayPoint, mStep).mul(stepSize));
+            setPathProgress(mPath.getDistance(mWayPointIndex) - distance + stepSize);
         } else {
-            setPosition(getCurrentWayPoint());
+            setPosition(wayPoint);
+            setPathProgress(mPath.getDistance(mWayPointIndex));
             mWayPointIndex++;
         }
     }
 
+    @Override
+    public void setPosition(Vector2 position) {
+        mMoveStart.set(getPosition());
+        super.setPosition(position);
+        mPathProgressValid = false;
+        reportMove();
+    }
+
+    @Override
+    public void move(Vector2 offset) {
+        mMoveStart.set(getPosition());
+        super.move(offset);
+        mPathProgressValid = false;
+        reportMove();
+    }
+
+    private void reportMove() {
+        if (mAreaService != null && isInGame()) {
+            mAreaService.enemyMoved(this, mMoveStart);
+        }
+    }
+
     public EnemyProperties getEnemyProperties() {
         return mEnemyProperties;
     }
 
     public void startTeleport() {
         mBeingTeleported = true;
+        mMovementVersion++;
     }
 
     public void finishTeleport() {
         mBeingTeleported = false;
+        mMovementVersion++;
         mWasTeleported = true;
         getGameEngine().add(new TeleportedMarker(this));
     }
@@ -142,21 +190,23 @@ public abstract class Enemy extends Entity {
         mWaveNumber = waveNumber;
     }
 
-    public void setupPath(List<Vector2> wayPoints) {
-        setupPath(wayPoints, 0);
+    public void setupPath(MapPath path) {
+        setupPath(path, 0);
     }
 
-    void setupPath(List<Vector2> wayPoints, int wayPointIndex) {
-        mWayPoints = wayPoints;
+    void setupPath(MapPath path, int wayPointIndex) {
+        mPath = path;
         mWayPointIndex = wayPointIndex;
+        mPathProgressValid = false;
+        mMovementVersion++;
     }
 
     private Vector2 getCurrentWayPoint() {
-        return mWayPoints.get(mWayPointIndex);
+        return mPath.getWayPoints().get(mWayPointIndex);
     }
 
-    List<Vector2> getWayPoints() {
-        return mWayPoints;
+    MapPath getPath() {
+        return mPath;
     }
 
     int getWayPointIndex() {
@@ -164,7 +214,12 @@ public abstract class Enemy extends Entity {
     }
 
     boolean hasWayPoint() {
-        return mWayPoints != null && mWayPointIndex < mWayPoints.size();
+        return mPath != null && mWayPointIndex < mPath.getWayPoints().size();
+    }
+
+    // enemies walk straight to the first way point and are moved freely while being teleported
+    boolean isOnPath() {
+        return mWayPointIndex > 0 && hasWayPoint() && !mBeingTeleported;
     }
 
     public Vector2 getDirection() {
@@ -189,77 +244,80 @@ public abstract class Enemy extends Entity {
         }
 
         mSpeedModifier = mSpeedModifier * f;
+        mMovementVersion++;
     }
 
-    private float getDistanceRemaining() {
-        if (!hasWayPoint()) {
-            return 0;
+    // distance travelled along the path, measured from the first way point
+    public float getPathProgress() {
+        if (!mPathProgressValid) {
+            if (mPath == null) {
+                mPathProgress = 0f;
+            } else if (hasWayPoint()) {
+                mPathProgress = mPath.getDistance(mWayPointIndex) - getDistanceTo(getCurrentWayPoint());
+            } else {
+                mPathProgress = mPath.getLength();
+            }
+
+            mPathProgressValid = true;
         }
 
-        float dist = getDistanceTo(getCurrentWayPoint());
+        return mPathProgress;
+    }
 
-        for (int i = mWayPointIndex + 1; i < mWayPoints.size(); i++) {
-            Vector2 wThis = mWayPoints.get(i);
-            Vector2 wLast = mWayPoints.get(i - 1);
+    private void setPathProgress(float pathProgress) {
+        mPathProgress = pathProgress;
+        mPathProgressValid = true;
+    }
 
-            dist += wLast.distanceTo(wThis);
+    public float getDistanceRemaining() {
+        if (!hasWayPoint()) {
+            return 0;
         }
 
-        return dist;
+        return mPath.getLength() - getPathProgress();
+    }
+
+    // changes whenever the enemy stops moving as predicted by getPositionAfter()
+    public int getMovementVersion() {
+        return mMovementVersion;
     }
 
     public Vector2 getPositionAfter(float sec) {
-        if (mWayPoints == null) {
-            return getPosition();
+        return getPositionAfter(sec, new Vector2());
+    }
+
+    public Vector2 getPositionAfter(float sec, Vector2 out) {
+        if (!hasWayPoint()) {
+            return out.set(getPosition());
         }
 
         float distance = sec * getSpeed();
-        int index = mWayPointIndex;
-        Vector2 position = getPosition();
 
-        while (index < mWayPoints.size()) {
-            Vector2 wayPoint = mWayPoints.get(index);
-            float toWaypointDist = position.distanceTo(wayPoint);
-
-            if (distance < toWaypointDist) {
-                return Vector2.to(position, wayPoint)
-                              .mul(distance / toWaypointDist)
-                              .add(position);
-            }
-            distance -= toWaypointDist;
-            index++;
+        // the enemy might be off the path (e.g. before the start), so it first walks straight to the current way point
+        if (distance < getDistanceTo(getCurrentWayPoint())) {
+            return getPosition().directionTo(getCurrentWayPoint(), out)
+                    .mul(distance)
+                    .add(getPosition());
         }
 
-        return position;
+        return mPath.getPositionAt(getPathProgress() + distance, out);
     }
 
+    // the path index sorts the enemy in at its new progress with its next update, the areas only
+    // see the destination of the jump
     public void sendBack(float dist) {
-        int index = mWayPointIndex - 1;
-        Vector2 pos = getPosition();
-
-        while (index > 0) {
-            Vector2 wp = mWayPoints.get(index);
-            float toWpDist = pos.distanceTo(wp);
-
-            if (dist > toWpDist) {
-                dist -= toWpDist;
-                pos = wp;
-                index--;
-            } else {
-                pos = pos.directionTo(wp)
-                         .mul(dist)
-                         .add(pos);
-                setPosition(pos);
-                mWayPointIndex = index + 1;
-                return;
-            }
+        float pathProgress = Math.max(getPathProgress() - dist, 0f);
+        super.setPosition(mPath.getPositionAt(pathProgress, mStep));
+        mWayPointIndex = mPath.getNextWayPointIndex(pathProgress);
+        setPathProgress(pathProgress);
+        mMovementVersion++;
+
+        if (mAreaService != null) {
+            mAreaService.enemyPlaced(this);
         }
-
-        setPosition(mWayPoints.get(0));
-        mWayPointIndex = 1;
     }
 
-    float getHealth() {
+    public float getHealth() {
         return mHealth;
     }
 
@@ -0,0 +1,319 @@
+package ch.logixisland.anuto.entity.enemy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.map.GameMap;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
+import ch.logixisland.anuto.engine.logic.map.PathRange;
+import ch.logixisland.anuto.util.iterator.Predicate;
+
+// Keeps the enemies of every path ordered by their path progress, so the enemies within a range are
+// found by searching the progress intervals of the range. The order barely changes between ticks,
+// so it is repaired by an insertion sort when the index is first queried in a tick. Enemies that
+// are not on their path (e.g. before the first way point or while being teleported) are kept apart
+// and always checked. Queries come from the sense phase and may run concurrently, only the update
+// is synchronized. The path progress of an enemy is computed lazily, so it is only taken in the
+// update or when the enemy is added, and queries use the stored values.
+public class EnemyPathIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // absorbs the rounding errors of positions moved along the path
+    private static final float PROGRESS_TOLERANCE = 0.01f;
+
+    private static class PathEntries {
+        private final MapPath mPath;
+        private Enemy[] mEnemies = new Enemy[INITIAL_CAPACITY];
+        private float[] mProgress = new float[INITIAL_CAPACITY];
+        private int mSize;
+
+        PathEntries(MapPath path) {
+            mPath = path;
+        }
+
+        void add(Enemy enemy, float progress) {
+            if (mSize == mEnemies.length) {
+                mEnemies = Arrays.copyOf(mEnemies, mSize * 2);
+                mProgress = Arrays.copyOf(mProgress, mSize * 2);
+            }
+
+            mEnemies[mSize] = enemy;
+            mProgress[mSize] = progress;
+            mSize++;
+        }
+
+        void sort() {
+            for (int i = 1; i < mSize; i++) {
+                Enemy enemy = mEnemies[i];
+                float progress = mProgress[i];
+                int j = i - 1;
+
+                while (j >= 0 && mProgress[j] > progress) {
+                    mEnemies[j + 1] = mEnemies[j];
+                    mProgress[j + 1] = mProgress[j];
+                    j--;
+                }
+
+                mEnemies[j + 1] = enemy;
+                mProgress[j + 1] = progress;
+            }
+        }
+
+        // index of the first enemy with a progress of at least the given one
+        int lowerBound(float progress) {
+            int low = 0;
+            int high = mSize;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (mProgress[mid] < progress) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+
+        // index of the first enemy with a progress above the given one
+        int upperBound(float progress) {
+            int low = 0;
+            int high = mSize;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+
+                if (mProgress[mid] <= progress) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+
+    private final GameEngine mGameEngine;
+    private final List<PathEntries> mPaths = new ArrayList<>();
+    private final List<Enemy> mOffPath = new ArrayList<>();
+    private float[] mOffPathDistances = new float[INITIAL_CAPACITY];
+    private GameMap mGameMap;
+    private int mUpdateTick = -1;
+
+    public EnemyPathIndex(GameEngine gameEngine) {
+        mGameEngine = gameEngine;
+    }
+
+    // the enemy is sorted in with the next update
+    void add(Enemy enemy) {
+        if (!enemy.mPathIndexed) {
+            enemy.mPathIndexed = true;
+            setOffPathDistance(mOffPath.size(), enemy.getDistanceRemaining());
+            mOffPath.add(enemy);
+        }
+    }
+
+    // the enemy in range with the least distance remaining that passes the filter, or null
+    public Enemy findFirst(PathRange range, Predicate<? super Enemy> filter) {
+        return find(range, filter, false);
+    }
+
+    // the enemy in range with the most distance remaining that passes the filter, or null
+    public Enemy findLast(PathRange range, Predicate<? super Enemy> filter) {
+        return find(range, filter, true);
+    }
+
+    public boolean isAnyInRange(PathRange range) {
+        return find(range, null, true) != null;
+    }
+
+    private Enemy find(PathRange range, Predicate<? super Enemy> filter, boolean last) {
+        update();
+
+        if (range.getGameMap() != mGameMap) {
+            return null;
+        }
+
+        Enemy best = null;
+        float bestDistance = 0f;
+
+        for (int p = 0; p < mPaths.size(); p++) {
+            PathEntries entries = mPaths.get(p);
+            int index = last
+                    ? findLowest(entries, range.getIntervals(p), range, filter)
+                    : findHighest(entries, range.getIntervals(p), range, filter);
+
+            if (index >= 0) {
+                float distance = entries.mPath.getLength() - entries.mProgress[index];
+
+                if (best == null || (last ? distance > bestDistance : distance < bestDistance)) {
+                    best = entries.mEnemies[index];
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        for (int i = 0; i < mOffPath.size(); i++) {
+            Enemy enemy = mOffPath.get(i);
+
+            if (!isTarget(enemy, range, filter)) {
+                continue;
+            }
+
+            float distance = mOffPathDistances[i];
+
+            if (best == null || (last ? distance > bestDistance : distance < bestDistance)) {
+                best = enemy;
+                bestDistance = distance;
+            }
+        }
+
+        return best;
+    }
+
+    private int findHighest(PathEntries entries, float[] intervals, PathRange range, Predicate<? super Enemy> filter) {
+        for (int k = intervals.length - 2; k >= 0; k -= 2) {
+            float start = intervals[k] - PROGRESS_TOLERANCE;
+
+            for (int i = entries.upperBound(intervals[k + 1] + PROGRESS_TOLERANCE) - 1;
+                 i >= 0 && entries.mProgress[i] >= start; i--) {
+                if (isTarget(entries.mEnemies[i], range, filter)) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    private int findLowest(PathEntries entries, float[] intervals, PathRange range, Predicate<? super Enemy> filter) {
+        for (int k = 0; k < intervals.length; k += 2) {
+            float end = intervals[k + 1] + PROGRESS_TOLERANCE;
+
+            for (int i = entries.lowerBound(intervals[k] - PROGRESS_TOLERANCE);
+                 i < entries.mSize && entries.mProgress[i] <= end; i++) {
+                if (isTarget(entries.mEnemies[i], range, filter)) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    // the intervals only preselect, the distance decides; enemies removed earlier in this tick may still be indexed
+    private boolean isTarget(Enemy enemy, PathRange range, Predicate<? super Enemy> filter) {
+        return range.isInRange(enemy.getPosition())
+                && enemy.isInGame()
+                && (filter == null || filter.apply(enemy));
+    }
+
+    private synchronized void update() {
+        int tick = mGameEngine.getTickCount();
+
+        if (tick == mUpdateTick) {
+            return;
+        }
+
+        mUpdateTick = tick;
+
+        if (mGameMap != mGameEngine.getGameMap()) {
+            resetPaths();
+        }
+
+        for (int i = 0; i < mPaths.size(); i++) {
+            refreshPath(mPaths.get(i));
+        }
+
+        refreshOffPath();
+
+        for (int i = 0; i < mPaths.size(); i++) {
+            mPaths.get(i).sort();
+        }
+    }
+
+    private void resetPaths() {
+        for (int i = 0; i < mPaths.size(); i++) {
+            PathEntries entries = mPaths.get(i);
+            mOffPath.addAll(Arrays.asList(entries.mEnemies).subList(0, entries.mSize));
+        }
+
+        mPaths.clear();
+        mGameMap = mGameEngine.getGameMap();
+
+        if (mGameMap != null) {
+            for (MapPath path : mGameMap.getPaths()) {
+                mPaths.add(new PathEntries(path));
+            }
+        }
+    }
+
+    // enemies that left the path are moved to the off path enemies
+    private void refreshPath(PathEntries entries) {
+        int size = 0;
+
+        for (int i = 0; i < entries.mSize; i++) {
+            Enemy enemy = entries.mEnemies[i];
+
+            if (!enemy.isInGame()) {
+                enemy.mPathIndexed = false;
+            } else if (enemy.getPath() != entries.mPath || !enemy.isOnPath()) {
+                mOffPath.add(enemy);
+            } else {
+                entries.mEnemies[size] = enemy;
+                entries.mProgress[size] = enemy.getPathProgress();
+                size++;
+            }
+        }
+
+        Arrays.fill(entries.mEnemies, size, entries.mSize, null);
+        entries.mSize = size;
+    }
+
+    // enemies that reached their path are appended to it and sorted in afterwards
+    private void refreshOffPath() {
+        int size = 0;
+
+        for (int i = 0; i < mOffPath.size(); i++) {
+            Enemy enemy = mOffPath.get(i);
+            PathEntries entries = enemy.isOnPath() ? getEntries(enemy.getPath()) : null;
+
+            if (!enemy.isInGame()) {
+                enemy.mPathIndexed = false;
+            } else if (entries != null) {
+                entries.add(enemy, enemy.getPathProgress());
+            } else {
+                setOffPathDistance(size, enemy.getDistanceRemaining());
+                mOffPath.set(size++, enemy);
+            }
+        }
+
+        while (mOffPath.size() > size) {
+            mOffPath.remove(mOffPath.size() - 1);
+        }
+    }
+
+    private void setOffPathDistance(int index, float distance) {
+        if (index >= mOffPathDistances.length) {
+            mOffPathDistances = Arrays.copyOf(mOffPathDistances, Math.max(index + 1, mOffPathDistances.length * 2));
+        }
+
+        mOffPathDistances[index] = distance;
+    }
+
+    private PathEntries getEntries(MapPath path) {
+        for (int i = 0; i < mPaths.size(); i++) {
+            if (mPaths.get(i).mPath == path) {
+                return mPaths.get(i);
+            }
+        }
+
+        return null;
+    }
+}
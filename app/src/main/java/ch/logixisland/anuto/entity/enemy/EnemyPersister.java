@@ -1,19 +1,30 @@
 package ch.logixisland.anuto.entity.enemy;
 
+import android.util.Log;
+
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.entity.EntityPersister;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
 import ch.logixisland.anuto.util.container.KeyValueStore;
 
 public class EnemyPersister extends EntityPersister {
 
+    private static final String TAG = EnemyPersister.class.getSimpleName();
+
     @Override
     public KeyValueStore writeEntityData(Entity entity) {
-        KeyValueStore data = super.writeEntityData(entity);
-
         Enemy enemy = (Enemy) entity;
+        int pathIndex = enemy.getGameEngine().getGameMap().getPaths().indexOf(enemy.getPath());
+
+        if (pathIndex < 0) {
+            Log.w(TAG, "Path of enemy " + enemy.getEntityId() + " not found, not saving it.");
+            return null;
+        }
+
+        KeyValueStore data = super.writeEntityData(entity);
         data.putFloat("health", enemy.getHealth());
         data.putFloat("maxHealth", enemy.getMaxHealth());
-        data.putVectorList("wayPoints", enemy.getWayPoints());
+        data.putInt("pathIndex", pathIndex);
         data.putInt("wayPointIndex", enemy.getWayPointIndex());
         data.putInt("waveNumber", enemy.getWaveNumber());
         data.putInt("reward", enemy.getReward());
@@ -30,7 +41,8 @@ public class EnemyPersister extends EntityPersister {
         enemy.setHealth(entityData.getFloat("health"), entityData.getFloat("maxHealth"));
         enemy.setReward(entityData.getInt("reward"));
         enemy.setWaveNumber(entityData.getInt("waveNumber"));
-        enemy.setupPath(entityData.getVectorList("wayPoints"), entityData.getInt("wayPointIndex"));
+        MapPath path = enemy.getGameEngine().getGameMap().getPaths().get(entityData.getInt("pathIndex"));
+        enemy.setupPath(path, entityData.getInt("wayPointIndex"));
 
         if (entityData.getBoolean("teleported")) {
             enemy.finishTeleport();
@@ -2,19 +2,24 @@ package ch.logixisland.anuto.entity.enemy;
 
 import android.graphics.Canvas;
 import android.graphics.Paint;
+import android.graphics.RectF;
 
 import ch.logixisland.anuto.R;
-import ch.logixisland.anuto.engine.render.Drawable;
+import ch.logixisland.anuto.engine.render.BatchRenderer;
+import ch.logixisland.anuto.engine.render.BatchedDrawable;
+import ch.logixisland.anuto.engine.render.BoundedDrawable;
 import ch.logixisland.anuto.engine.render.Layers;
 import ch.logixisland.anuto.engine.theme.Theme;
+import ch.logixisland.anuto.util.container.SlotHandle;
 import ch.logixisland.anuto.util.math.MathUtils;
 
-public class HealthBar implements Drawable {
+public class HealthBar implements BatchedDrawable, BoundedDrawable, SlotHandle.Owner {
     private static final float HEALTHBAR_WIDTH = 1.0f;
     private static final float HEALTHBAR_HEIGHT = 0.1f;
     private static final float HEALTHBAR_OFFSET = 0.6f;
 
     private final Enemy mEntity;
+    private final SlotHandle mSlotHandle = new SlotHandle();
     private static Paint mHealthBarBg = null;
     private static Paint mHealthBarFg = null;
 
@@ -31,11 +36,23 @@ public class HealthBar implements Drawable {
         }
     }
 
+    @Override
+    public SlotHandle getSlotHandle() {
+        return mSlotHandle;
+    }
+
     @Override
     public int getLayer() {
         return Layers.ENEMY_HEALTHBAR;
     }
 
+    @Override
+    public void getBounds(RectF bounds) {
+        float left = mEntity.getPosition().x() - HEALTHBAR_WIDTH / 2f;
+        float top = mEntity.getPosition().y() + HEALTHBAR_OFFSET;
+        bounds.set(left, top, left + HEALTHBAR_WIDTH, top + HEALTHBAR_HEIGHT);
+    }
+
     @Override
     public void draw(Canvas canvas) {
         if (!MathUtils.equals(mEntity.getHealth(), mEntity.getMaxHealth(), 1f)) {
@@ -47,4 +64,17 @@ public class HealthBar implements Drawable {
             canvas.restore();
         }
     }
+
+    @Override
+    public boolean addToBatch(BatchRenderer batch) {
+        if (!MathUtils.equals(mEntity.getHealth(), mEntity.getMaxHealth(), 1f)) {
+            float left = mEntity.getPosition().x() - HEALTHBAR_WIDTH / 2f;
+            float top = mEntity.getPosition().y() + HEALTHBAR_OFFSET;
+
+            batch.addRect(mHealthBarBg.getColor(), left, top, left + HEALTHBAR_WIDTH, top + HEALTHBAR_HEIGHT);
+            batch.addRect(mHealthBarFg.getColor(), left, top, left + mEntity.getHealth() / mEntity.getMaxHealth() * HEALTHBAR_WIDTH, top + HEALTHBAR_HEIGHT);
+        }
+
+        return true;
+    }
 }
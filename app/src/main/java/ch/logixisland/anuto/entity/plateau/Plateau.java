@@ -22,6 +22,13 @@ public abstract class Plateau extends Entity {
         return EntityTypes.PLATEAU;
     }
 
+    // plateaus never change on their own
+    @Override
+    public void init() {
+        super.init();
+        sleep();
+    }
+
     public boolean isOccupied() {
         return mOccupied;
     }
@@ -26,24 +26,49 @@ public class CanonShot extends Shot implements SpriteTransformation, TargetTrack
     }
 
     private float mAngle;
-    private final float mDamage;
+    private float mDamage;
     private final TargetTracker mTracker;
 
     private final StaticSprite mSprite;
 
+    public static CanonShot obtain(Entity origin, Vector2 position, Enemy target, float damage) {
+        CanonShot shot = origin.getGameEngine().obtain(CanonShot.class);
+
+        if (shot == null) {
+            return new CanonShot(origin, position, target, damage);
+        }
+
+        shot.reset(origin);
+        shot.setup(position, target, damage);
+        return shot;
+    }
+
     public CanonShot(Entity origin, Vector2 position, Enemy target, float damage) {
         super(origin);
-        setPosition(position);
-        setSpeed(MOVEMENT_SPEED);
 
-        mDamage = damage;
-        mTracker = new TargetTracker(target, this, this);
+        mTracker = new TargetTracker(this, this);
 
         StaticData s = (StaticData) getStaticData();
 
         mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
+
+        setup(position, target, damage);
+    }
+
+    private void setup(Vector2 position, Enemy target, float damage) {
+        setPosition(position);
+        setSpeed(MOVEMENT_SPEED);
+
+        mAngle = 0f;
+        mDamage = damage;
         mSprite.setIndex(RandomUtils.next(4));
+        mTracker.setTarget(target);
+    }
+
+    @Override
+    protected boolean isRecyclable() {
+        return true;
     }
 
     @Override
@@ -68,6 +93,12 @@ public class CanonShot extends Shot implements SpriteTransformation, TargetTrack
         getGameEngine().remove(mSprite);
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        mTracker.sense();
+    }
+
     @Override
     public void tick() {
         setDirection(mTracker.getTargetDirection());
@@ -24,27 +24,49 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
         public SpriteTemplate mSpriteTemplate;
     }
 
-    private final float mAngle;
-    private final float mDamage;
+    private float mAngle;
+    private float mDamage;
 
     private final StaticSprite mSprite;
 
+    public static CanonShotMg obtain(Entity origin, Vector2 position, Vector2 direction, float damage) {
+        CanonShotMg shot = origin.getGameEngine().obtain(CanonShotMg.class);
+
+        if (shot == null) {
+            return new CanonShotMg(origin, position, direction, damage);
+        }
+
+        shot.reset(origin);
+        shot.setup(position, direction, damage);
+        return shot;
+    }
+
     public CanonShotMg(Entity origin, Vector2 position, Vector2 direction, float damage) {
         super(origin);
+
+        StaticData s = (StaticData) getStaticData();
+
+        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
+        mSprite.setListener(this);
+
+        setup(position, direction, damage);
+    }
+
+    private void setup(Vector2 position, Vector2 direction, float damage) {
         setPosition(position);
         setSpeed(MOVEMENT_SPEED);
         setDirection(direction);
 
         mAngle = direction.angle();
         mDamage = damage;
-
-        StaticData s = (StaticData) getStaticData();
-
-        mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
-        mSprite.setListener(this);
         mSprite.setIndex(RandomUtils.next(4));
     }
 
+    @Override
+    protected boolean isRecyclable() {
+        return true;
+    }
+
     @Override
     public Object initStatic() {
         StaticData s = new StaticData();
@@ -73,8 +95,7 @@ public class CanonShotMg extends Shot implements SpriteTransformation {
     public void tick() {
         super.tick();
 
-        Enemy enemy = (Enemy) getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                .filter(inRange(getPosition(), HIT_RANGE))
+        Enemy enemy = (Enemy) getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), HIT_RANGE)
                 .first();
 
         if (enemy != null) {
@@ -29,6 +29,7 @@ public class GlueShot extends Shot implements SpriteTransformation {
 
     private final float mDuration;
     private final Vector2 mTarget;
+    private final int mTicksToTarget;
     private final AnimatedSprite mSprite;
 
     private final Sound mSound;
@@ -41,6 +42,10 @@ public class GlueShot extends Shot implements SpriteTransformation {
         setSpeed(MOVEMENT_SPEED);
         setDirection(getDirectionTo(target));
 
+        // the shot hits after the move that brings it within one step of the target
+        float step = MOVEMENT_SPEED / GameEngine.TARGET_FRAME_RATE;
+        mTicksToTarget = Math.max(1, (int) (getDistanceTo(target) / step));
+
         mIntensity = intensity;
         mDuration = duration;
 
@@ -64,11 +69,13 @@ public class GlueShot extends Shot implements SpriteTransformation {
         return s;
     }
 
+    // shots added during a tick already move in it
     @Override
     public void init() {
         super.init();
 
         getGameEngine().add(mSprite);
+        getGameEngine().postAfterTicks(this::hit, mTicksToTarget - 1);
     }
 
     @Override
@@ -83,8 +90,10 @@ public class GlueShot extends Shot implements SpriteTransformation {
         super.tick();
 
         mSprite.tick();
+    }
 
-        if (getDistanceTo(mTarget) < getSpeed() / GameEngine.TARGET_FRAME_RATE) {
+    private void hit() {
+        if (isInGame()) {
             getGameEngine().add(new GlueEffect(getOrigin(), mTarget, mIntensity, mDuration));
             mSound.play();
             this.remove();
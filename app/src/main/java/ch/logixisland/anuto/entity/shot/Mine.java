@@ -33,10 +33,24 @@ public class Mine extends Shot implements SpriteTransformation {
     private final static float HEIGHT_SCALING_STOP = 1.0f;
     private final static float HEIGHT_SCALING_PEAK = 1.5f;
 
+    // the curves are the same for every mine, only the samples are per mine
+    private final static Function FLYING_HEIGHT_SCALING = createHeightScaling();
+    private final static Function LYING_HEIGHT_SCALING = Function.constant(HEIGHT_SCALING_STOP);
+
     private static class StaticData {
         SpriteTemplate mSpriteTemplate;
     }
 
+    private static Function createHeightScaling() {
+        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
+        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
+        return Function.quadratic()
+                .multiply(-1f)
+                .offset(HEIGHT_SCALING_PEAK)
+                .shift(-x1)
+                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2));
+    }
+
     private final float mDamage;
     private final float mRadius;
     private float mAngle;
@@ -64,14 +78,7 @@ public class Mine extends Shot implements SpriteTransformation {
 
         mRotationStep = RandomUtils.next(ROTATION_RATE_MIN, ROTATION_RATE_MAX) * 360f / GameEngine.TARGET_FRAME_RATE;
 
-        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
-        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
-        mHeightScalingFunction = Function.quadratic()
-                .multiply(-1f)
-                .offset(HEIGHT_SCALING_PEAK)
-                .shift(-x1)
-                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2))
-                .sample();
+        mHeightScalingFunction = FLYING_HEIGHT_SCALING.sample();
 
         createAssets();
     }
@@ -87,7 +94,7 @@ public class Mine extends Shot implements SpriteTransformation {
         mRadius = radius;
         mAngle = RandomUtils.next(0f, 360f);
 
-        mHeightScalingFunction = Function.constant(HEIGHT_SCALING_STOP).sample();
+        mHeightScalingFunction = LYING_HEIGHT_SCALING.sample();
 
         createAssets();
     }
@@ -101,7 +108,7 @@ public class Mine extends Shot implements SpriteTransformation {
         mSpriteFlying.setListener(this);
         mSpriteFlying.setIndex(index);
 
-        mSpriteMine = getSpriteFactory().createStatic(Layers.BOTTOM, s.mSpriteTemplate);
+        mSpriteMine = getSpriteFactory().createStatic(Layers.GROUND, s.mSpriteTemplate);
         mSpriteMine.setListener(this);
         mSpriteMine.setIndex(index);
     }
@@ -154,13 +161,12 @@ public class Mine extends Shot implements SpriteTransformation {
                 setSpeed(0f);
             }
         } else if (mUpdateTimer.tick()) {
-            StreamIterator<Enemy> enemiesInRange = getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                    .filter(inRange(getPosition(), TRIGGER_RADIUS))
+            StreamIterator<Enemy> enemiesInRange = getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), TRIGGER_RADIUS)
                     .cast(Enemy.class)
                     .filter(value -> !(value instanceof Flyer));
 
             if (!enemiesInRange.isEmpty()) {
-                getGameEngine().add(new Explosion(getOrigin(), getPosition(), mDamage, mRadius));
+                getGameEngine().add(Explosion.obtain(getOrigin(), getPosition(), mDamage, mRadius));
                 this.remove();
             }
         }
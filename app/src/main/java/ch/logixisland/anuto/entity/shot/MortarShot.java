@@ -20,14 +20,28 @@ import ch.logixisland.anuto.util.math.Vector2;
 public class MortarShot extends Shot implements SpriteTransformation {
 
     public final static float TIME_TO_TARGET = 1.5f;
+    private final static int TICKS_TO_TARGET = Math.round(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET);
     private final static float HEIGHT_SCALING_START = 0.5f;
     private final static float HEIGHT_SCALING_STOP = 1.0f;
     private final static float HEIGHT_SCALING_PEAK = 1.5f;
 
+    // the curve is the same for every shot, only the samples are per shot
+    private final static Function HEIGHT_SCALING = createHeightScaling();
+
     private static class StaticData {
         SpriteTemplate mSpriteTemplate;
     }
 
+    private static Function createHeightScaling() {
+        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
+        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
+        return Function.quadratic()
+                .multiply(-1f)
+                .offset(HEIGHT_SCALING_PEAK)
+                .shift(-x1)
+                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2));
+    }
+
     private final float mDamage;
     private final float mRadius;
     private final float mAngle;
@@ -47,14 +61,7 @@ public class MortarShot extends Shot implements SpriteTransformation {
 
         StaticData s = (StaticData) getStaticData();
 
-        float x1 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_START);
-        float x2 = (float) Math.sqrt(HEIGHT_SCALING_PEAK - HEIGHT_SCALING_STOP);
-        mHeightScalingFunction = Function.quadratic()
-                .multiply(-1f)
-                .offset(HEIGHT_SCALING_PEAK)
-                .shift(-x1)
-                .stretch(GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET / (x1 + x2))
-                .sample();
+        mHeightScalingFunction = HEIGHT_SCALING.sample();
 
         mSprite = getSpriteFactory().createStatic(Layers.SHOT, s.mSpriteTemplate);
         mSprite.setListener(this);
@@ -71,11 +78,14 @@ public class MortarShot extends Shot implements SpriteTransformation {
         return s;
     }
 
+    // the flight time is fixed, so the explosion is scheduled when the shot is fired; shots added
+    // during a tick already move in it
     @Override
     public void init() {
         super.init();
 
         getGameEngine().add(mSprite);
+        getGameEngine().postAfterTicks(this::explode, TICKS_TO_TARGET - 1);
     }
 
     @Override
@@ -98,8 +108,11 @@ public class MortarShot extends Shot implements SpriteTransformation {
         super.tick();
 
         mHeightScalingFunction.step();
-        if (mHeightScalingFunction.getPosition() >= GameEngine.TARGET_FRAME_RATE * TIME_TO_TARGET) {
-            getGameEngine().add(new Explosion(getOrigin(), getPosition(), mDamage, mRadius));
+    }
+
+    private void explode() {
+        if (isInGame()) {
+            getGameEngine().add(Explosion.obtain(getOrigin(), getPosition(), mDamage, mRadius));
             this.remove();
         }
     }
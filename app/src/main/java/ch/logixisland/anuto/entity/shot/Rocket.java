@@ -116,6 +116,12 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
         canvas.rotate(mAngle);
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        mTracker.sense();
+    }
+
     @Override
     public void tick() {
         if (isEnabled()) {
@@ -144,7 +150,7 @@ public class Rocket extends Shot implements SpriteTransformation, TargetTracker.
 
     @Override
     public void targetReached(Enemy target) {
-        getGameEngine().add(new Explosion(getOrigin(), target.getPosition(), mDamage, mRadius));
+        getGameEngine().add(Explosion.obtain(getOrigin(), target.getPosition(), mDamage, mRadius));
         this.remove();
     }
 }
@@ -7,9 +7,10 @@ import ch.logixisland.anuto.util.math.Vector2;
 
 public abstract class Shot extends Entity {
 
-    private final Entity mOrigin;
+    private Entity mOrigin;
     private float mSpeed;
-    private Vector2 mDirection;
+    private final Vector2 mDirection = new Vector2();
+    private final Vector2 mStep = new Vector2();
     private boolean mEnabled = true;
 
     Shot(Entity origin) {
@@ -17,6 +18,14 @@ public abstract class Shot extends Entity {
         mOrigin = origin;
     }
 
+    // prepares a recycled shot, which the subclass sets up afterwards
+    void reset(Entity origin) {
+        mOrigin = origin;
+        mSpeed = 0f;
+        mDirection.set(0f, 0f);
+        mEnabled = true;
+    }
+
     @Override
     public final int getEntityType() {
         return EntityTypes.SHOT;
@@ -27,7 +36,7 @@ public abstract class Shot extends Entity {
         super.tick();
 
         if (mEnabled) {
-            move(Vector2.mul(mDirection, mSpeed / GameEngine.TARGET_FRAME_RATE));
+            move(mStep.set(mDirection).mul(mSpeed / GameEngine.TARGET_FRAME_RATE));
         }
     }
 
@@ -52,7 +61,7 @@ public abstract class Shot extends Entity {
     }
 
     protected void setDirection(Vector2 direction) {
-        this.mDirection = direction;
+        mDirection.set(direction);
     }
 
 }
@@ -1,11 +1,15 @@
 package ch.logixisland.anuto.entity.shot;
 
 import ch.logixisland.anuto.engine.logic.GameEngine;
-import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.util.math.Vector2;
 
-public class TargetTracker implements Entity.Listener {
+// When the target moves predictably, the shot flies straight to the point of impact and the hit is
+// scheduled as a message. The distance is only checked every tick when the prediction failed or
+// the movement of the target changed (e.g. slowed down or teleported).
+public class TargetTracker {
+
+    private static final int MAX_PREDICTED_TICKS = 10 * GameEngine.TARGET_FRAME_RATE;
 
     public interface Listener {
         void targetReached(Enemy target);
@@ -13,8 +17,17 @@ public class TargetTracker implements Entity.Listener {
         void targetLost(Enemy target);
     }
 
+    private final Vector2 mTargetDirection = new Vector2();
+    private final Vector2 mImpactPosition = new Vector2();
+
     private Enemy mTarget;
     private boolean mTargetReached;
+    private Enemy mSensedTarget;
+
+    private boolean mPredicted;
+    private int mPredictionId;
+    private int mPredictedMovementVersion;
+    private float mShotSpeed;
 
     private final Shot mShot;
     private final Listener mListener;
@@ -31,30 +44,145 @@ public class TargetTracker implements Entity.Listener {
     }
 
     public void setTarget(Enemy target) {
+        cancelPrediction();
         mTarget = target;
         mTargetReached = false;
+        mPredictedMovementVersion = -1;
+
+        // shots created during a tick still move in it
+        if (target != null && mShot.isEnabled()) {
+            predictImpact(mShot.isInGame() ? 0 : 1);
+        }
     }
 
     Vector2 getTargetDirection() {
-        return mShot.getDirectionTo(mTarget);
+        if (mPredicted) {
+            return mTargetDirection;
+        }
+
+        return mShot.getPosition().directionTo(mTarget.getPosition(), mTargetDirection);
+    }
+
+    // remembers the target if the shot reaches it within this tick, must not modify anything else
+    public void sense() {
+        mSensedTarget = null;
+
+        if (mTargetReached || mTarget == null || mPredicted) {
+            return;
+        }
+
+        if (mShot.getDistanceTo(mTarget) <= mShot.getSpeed() / GameEngine.TARGET_FRAME_RATE) {
+            mSensedTarget = mTarget;
+        }
     }
 
     public void tick() {
+        Enemy target = mSensedTarget;
+        mSensedTarget = null;
+
         if (mTargetReached || mTarget == null) {
             return;
         }
 
-        if (mShot.getDistanceTo(mTarget) <= mShot.getSpeed() / GameEngine.TARGET_FRAME_RATE) {
+        if (!mTarget.isInGame()) {
+            cancelPrediction();
+            mListener.targetLost(mTarget);
+            return;
+        }
+
+        if (mPredicted) {
+            if (mTarget.getMovementVersion() == mPredictedMovementVersion) {
+                return;
+            }
+
+            cancelPrediction();
+        }
+
+        if (target == mTarget) {
             mTargetReached = true;
             mListener.targetReached(mTarget);
+        } else if (mShot.isEnabled() && mTarget.getMovementVersion() != mPredictedMovementVersion) {
+            predictImpact(0);
         }
     }
 
-    @Override
-    public void entityRemoved(Entity entity) {
-        if (!mTargetReached) {
-            entity.removeListener(this);
+    // looks for the first tick at which the shot can reach the future position of the target
+    private void predictImpact(int extraMoves) {
+        mPredictedMovementVersion = mTarget.getMovementVersion();
+
+        // the search relies on the distance to the target growing slower than the reach of the shot
+        if (mTarget.isBeingTeleported() || mTarget.getSpeed() >= mShot.getSpeed()) {
+            return;
+        }
+
+        int high = 1;
+
+        while (!canReach(high, extraMoves)) {
+            high *= 2;
+
+            if (high > MAX_PREDICTED_TICKS) {
+                return;
+            }
+        }
+
+        int low = high / 2 + 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (canReach(mid, extraMoves)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        // the shot arrives at the point of impact exactly when the hit is due
+        mTarget.getPositionAfter((float) high / GameEngine.TARGET_FRAME_RATE, mImpactPosition);
+        float distance = mShot.getPosition().distanceTo(mImpactPosition);
+
+        if (distance > 0f) {
+            mShot.getPosition().directionTo(mImpactPosition, mTargetDirection);
+        } else {
+            mTargetDirection.set(0f, 0f);
+        }
+
+        mShotSpeed = mShot.getSpeed();
+        mShot.setSpeed(distance * GameEngine.TARGET_FRAME_RATE / (high + extraMoves));
+        mPredicted = true;
+
+        final int predictionId = ++mPredictionId;
+        mShot.getGameEngine().postAfterTicks(() -> impact(predictionId), high);
+    }
+
+    private boolean canReach(int ticks, int extraMoves) {
+        mTarget.getPositionAfter((float) ticks / GameEngine.TARGET_FRAME_RATE, mImpactPosition);
+        float reach = (ticks + extraMoves) * mShot.getSpeed() / GameEngine.TARGET_FRAME_RATE;
+        return mShot.getPosition().distanceSquaredTo(mImpactPosition) <= reach * reach;
+    }
+
+    // the target loses the rest of a step at every way point, which the prediction ignores, so the
+    // distance decides as usual
+    private void impact(int predictionId) {
+        if (predictionId != mPredictionId || !mPredicted || !mShot.isInGame()) {
+            return;
+        }
+
+        cancelPrediction();
+
+        if (!mTarget.isInGame()) {
             mListener.targetLost(mTarget);
+        } else if (mShot.getDistanceTo(mTarget) <= mShot.getSpeed() / GameEngine.TARGET_FRAME_RATE) {
+            mTargetReached = true;
+            mListener.targetReached(mTarget);
+        }
+    }
+
+    private void cancelPrediction() {
+        if (mPredicted) {
+            mPredicted = false;
+            mPredictionId++;
+            mShot.setSpeed(mShotSpeed);
         }
     }
 }
@@ -14,23 +14,58 @@ public class Aimer implements Entity.Listener {
     private boolean mLockTarget;
 
     private final Tower mTower;
+    private final TargetingService mTargetingService;
     private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
 
+    private boolean mSensed;
+    private Enemy mSensedTarget;
+
     public Aimer(Tower tower) {
         mTower = tower;
+        mTargetingService = tower.getGameEngine().getService(TargetingService.class);
         mStrategy = sDefaultStrategy;
         mLockTarget = sDefaultLockTarget;
     }
 
+    // called from Tower.sense(), must not modify anything but the aimer
+    void sense(int sleptTicks) {
+        // the target can't change while the tower sleeps, so only the timer has to catch up
+        mUpdateTimer.skip(sleptTicks);
+        mSensed = mUpdateTimer.tick();
+
+        if (!mSensed) {
+            return;
+        }
+
+        Enemy target = mTarget;
+
+        if (target != null && mTower.getDistanceTo(target) > mTower.getRange()) {
+            target = null;
+        }
+
+        if (target == null || !mLockTarget) {
+            target = mTargetingService.findTarget(mTower, mStrategy);
+        }
+
+        mSensedTarget = target;
+    }
+
     public void tick() {
-        if (mUpdateTimer.tick()) {
-            if (mTarget != null && mTower.getDistanceTo(mTarget) > mTower.getRange()) {
-                setTarget(null);
-            }
-
-            if (mTarget == null || !mLockTarget) {
-                nextTarget();
-            }
+        if (!mSensed) {
+            return;
+        }
+
+        Enemy target = mSensedTarget;
+        mSensed = false;
+        mSensedTarget = null;
+
+        // the target may have been removed by an entity that ticked earlier
+        if (target != null && !target.isInGame()) {
+            target = null;
+        }
+
+        if (target != mTarget) {
+            setTarget(target);
         }
     }
 
@@ -52,6 +87,15 @@ public class Aimer implements Entity.Listener {
         sDefaultLockTarget = lock;
     }
 
+    // no target now and none found in this tick
+    boolean isIdle() {
+        return mTarget == null && mSensedTarget == null;
+    }
+
+    int getTicksUntilUpdate() {
+        return mUpdateTimer.getTicksLeft();
+    }
+
     public Enemy getTarget() {
         return mTarget;
     }
@@ -68,29 +112,6 @@ public class Aimer implements Entity.Listener {
         }
     }
 
-    private void nextTarget() {
-        switch (mStrategy) {
-            case Closest:
-                setTarget(mTower.getPossibleTargets().min(Entity.distanceTo(mTower.getPosition())));
-                break;
-
-            case Strongest:
-                setTarget(mTower.getPossibleTargets().max(Enemy.health()));
-                break;
-
-            case Weakest:
-                setTarget(mTower.getPossibleTargets().min(Enemy.health()));
-                break;
-
-            case First:
-                setTarget(mTower.getPossibleTargets().min(Enemy.distanceRemaining()));
-                break;
-
-            case Last:
-                setTarget(mTower.getPossibleTargets().max(Enemy.distanceRemaining()));
-        }
-    }
-
     @Override
     public void entityRemoved(Entity entity) {
         setTarget(null);
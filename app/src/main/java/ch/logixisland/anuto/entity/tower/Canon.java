@@ -139,7 +139,7 @@ public class Canon extends Tower implements SpriteTransformation {
             mAngle = getAngleTo(mAimer.getTarget());
 
             if (isReloaded()) {
-                Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                Shot shot = CanonShot.obtain(this, getPosition(), mAimer.getTarget(), getDamage());
                 shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                 getGameEngine().add(shot);
                 mSound.play();
@@ -158,6 +158,11 @@ public class Canon extends Tower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return super.canSleep() && !mReboundActive;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
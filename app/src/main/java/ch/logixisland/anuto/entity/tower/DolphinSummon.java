@@ -135,8 +135,7 @@ public class DolphinSummon extends Entity implements SpriteTransformation {
     }
 
     private void findNewTarget() {
-        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                .filter(Entity.inRange(getPosition(), ATTACK_RANGE * 2f))
+        StreamIterator<Enemy> enemies = getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), ATTACK_RANGE * 2f)
                 .cast(Enemy.class);
 
         if (enemies.hasNext()) {
@@ -176,7 +175,7 @@ public class DolphinSummon extends Entity implements SpriteTransformation {
     private void attackTarget() {
         if (mCurrentTarget != null ) {
             // 创建水弹攻击
-            WaterShot shot = new WaterShot(this, getPosition(), mCurrentTarget, mDamage);
+            WaterShot shot = WaterShot.obtain(this, getPosition(), mCurrentTarget, mDamage);
             getGameEngine().add(shot);
 
             // 报告伤害给所有者
@@ -168,7 +168,7 @@ public class DualCanon extends Tower implements SpriteTransformation {
 
             if (isReloaded()) {
                 if (!mShoot2) {
-                    Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                    Shot shot = CanonShot.obtain(this, getPosition(), mAimer.getTarget(), getDamage());
                     shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                     shot.move(Vector2.polar(0.3f, mAngle + 90f));
                     getGameEngine().add(shot);
@@ -177,7 +177,7 @@ public class DualCanon extends Tower implements SpriteTransformation {
                     mCanons[0].reboundActive = true;
                     mShoot2 = true;
                 } else {
-                    Shot shot = new CanonShot(this, getPosition(), mAimer.getTarget(), getDamage());
+                    Shot shot = CanonShot.obtain(this, getPosition(), mAimer.getTarget(), getDamage());
                     shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                     shot.move(Vector2.polar(0.3f, mAngle - 90f));
                     getGameEngine().add(shot);
@@ -208,6 +208,11 @@ public class DualCanon extends Tower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return super.canSleep() && !mCanons[0].reboundActive && !mCanons[1].reboundActive;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
@@ -157,6 +157,11 @@ public class GlueGun extends Tower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return super.canSleep() && !mRebounding;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
@@ -18,6 +18,7 @@ import ch.logixisland.anuto.engine.render.sprite.SpriteTemplate;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformation;
 import ch.logixisland.anuto.engine.render.sprite.SpriteTransformer;
 import ch.logixisland.anuto.engine.render.sprite.StaticSprite;
+import ch.logixisland.anuto.entity.enemy.EnemyPathIndex;
 import ch.logixisland.anuto.entity.enemy.WeaponType;
 import ch.logixisland.anuto.entity.shot.GlueShot;
 import ch.logixisland.anuto.util.RandomUtils;
@@ -84,6 +85,7 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
     private float mGlueIntensity;
     private boolean mShooting;
+    private boolean mSensedEnemyInRange;
     private float mCanonOffset;
     private final SubCanon[] mCanons = new SubCanon[8];
     private final Collection<Vector2> mTargets = new ArrayList<>();
@@ -91,9 +93,11 @@ public class GlueTower extends Tower implements SpriteTransformation {
 
     private final StaticSprite mSpriteTower;
     private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+    private final EnemyPathIndex mEnemyPathIndex;
 
     private GlueTower(GameEngine gameEngine) {
         super(gameEngine, TOWER_PROPERTIES);
+        mEnemyPathIndex = gameEngine.getService(EnemyPathIndex.class);
         StaticData s = (StaticData) getStaticData();
 
         mGlueIntensity = GLUE_INTENSITY;
@@ -172,11 +176,17 @@ public class GlueTower extends Tower implements SpriteTransformation {
         mGlueIntensity += ENHANCE_GLUE_INTENSITY;
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        mSensedEnemyInRange = isReloaded() && mEnemyPathIndex.isAnyInRange(getPathRange());
+    }
+
     @Override
     public void tick() {
         super.tick();
 
-        if (isReloaded() && mUpdateTimer.tick() && !getPossibleTargets().isEmpty()) {
+        if (isReloaded() && mUpdateTimer.tick() && mSensedEnemyInRange) {
             mShooting = true;
             setReloaded(false);
         }
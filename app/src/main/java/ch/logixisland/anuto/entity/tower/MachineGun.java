@@ -140,7 +140,7 @@ public class MachineGun extends Tower implements SpriteTransformation {
             mSpriteCanon.tick();
 
             if (isReloaded()) {
-                Shot shot = new CanonShotMg(this, getPosition(), shootingDirection, getDamage());
+                Shot shot = CanonShotMg.obtain(this, getPosition(), shootingDirection, getDamage());
                 shot.move(Vector2.polar(SHOT_SPAWN_OFFSET, mAngle));
                 getGameEngine().add(shot);
                 mShotCount++;
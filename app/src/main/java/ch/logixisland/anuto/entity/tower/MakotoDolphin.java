@@ -159,7 +159,7 @@ public class MakotoDolphin extends Tower implements SpriteTransformation {
             mAngle = getAngleTo(mAimer.getTarget());
 
             // 发射水弹攻击
-            WaterShot shot = new WaterShot(this, getPosition(), mAimer.getTarget(), getDamage());
+            WaterShot shot = WaterShot.obtain(this, getPosition(), mAimer.getTarget(), getDamage());
             getGameEngine().add(shot);
             mSound.play();
 
@@ -184,6 +184,12 @@ public class MakotoDolphin extends Tower implements SpriteTransformation {
         }
     }
 
+    // the dolphins are summoned regardless of targets
+    @Override
+    protected boolean canSleep() {
+        return false;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
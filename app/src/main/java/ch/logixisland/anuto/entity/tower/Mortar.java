@@ -155,6 +155,11 @@ public class Mortar extends Tower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return super.canSleep() && !mRebounding;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
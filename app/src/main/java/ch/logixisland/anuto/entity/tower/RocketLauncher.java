@@ -158,6 +158,11 @@ public class RocketLauncher extends Tower implements SpriteTransformation {
         }
     }
 
+    @Override
+    protected boolean canSleep() {
+        return super.canSleep() && mRocket != null;
+    }
+
     @Override
     public Aimer getAimer() {
         return mAimer;
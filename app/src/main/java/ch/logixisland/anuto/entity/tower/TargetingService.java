@@ -0,0 +1,217 @@
+package ch.logixisland.anuto.entity.tower;
+
+import java.util.Arrays;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.entity.EntityTypes;
+import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.entity.enemy.EnemyPathIndex;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Answers the target queries of all towers from one snapshot of the enemies per tick. The
+// orderings are only sorted when first needed, so a query can stop at the first enemy in range.
+// First and Last are looked up in the path progress intervals of the range instead.
+// Queries come from the sense phase and may run concurrently, only the lazy parts are synchronized.
+public class TargetingService {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final GameEngine mGameEngine;
+    private final EnemyPathIndex mEnemyPathIndex;
+
+    private int mSnapshotTick = -1;
+    private int mSize;
+    private Enemy[] mEnemies = new Enemy[INITIAL_CAPACITY];
+    private float[] mX = new float[INITIAL_CAPACITY];
+    private float[] mY = new float[INITIAL_CAPACITY];
+    private float[] mHealth = new float[INITIAL_CAPACITY];
+
+    // sort key in the upper and snapshot index in the lower 32 bits
+    private long[] mByX = new long[INITIAL_CAPACITY];
+    private long[] mByHealth = new long[INITIAL_CAPACITY];
+    private boolean mByXSorted;
+    private boolean mByHealthSorted;
+
+    public TargetingService(GameEngine gameEngine, EnemyPathIndex enemyPathIndex) {
+        mGameEngine = gameEngine;
+        mEnemyPathIndex = enemyPathIndex;
+    }
+
+    public Enemy findTarget(Tower tower, TowerStrategy strategy) {
+        switch (strategy) {
+            case Weakest:
+                return findFirstInRange(tower, getByHealth(), false);
+
+            case Strongest:
+                return findFirstInRange(tower, getByHealth(), true);
+
+            case First:
+                return mEnemyPathIndex.findFirst(tower.getPathRange(), tower.getPossibleTargetFilter());
+
+            case Last:
+                return mEnemyPathIndex.findLast(tower.getPathRange(), tower.getPossibleTargetFilter());
+
+            default:
+                return findClosest(tower);
+        }
+    }
+
+    private synchronized void updateSnapshot() {
+        int tick = mGameEngine.getTickCount();
+
+        if (tick == mSnapshotTick) {
+            return;
+        }
+
+        mSnapshotTick = tick;
+        mSize = 0;
+        mByXSorted = false;
+        mByHealthSorted = false;
+
+        StreamIterator<Enemy> enemies = mGameEngine.getEntitiesByType(EntityTypes.ENEMY).cast(Enemy.class);
+
+        while (enemies.hasNext()) {
+            Enemy enemy = enemies.next();
+
+            if (mSize == mEnemies.length) {
+                grow();
+            }
+
+            mEnemies[mSize] = enemy;
+            mX[mSize] = enemy.getPosition().x();
+            mY[mSize] = enemy.getPosition().y();
+            mHealth[mSize] = enemy.getHealth();
+            mSize++;
+        }
+
+        Arrays.fill(mEnemies, mSize, mEnemies.length, null);
+    }
+
+    private synchronized long[] getByX() {
+        updateSnapshot();
+
+        if (!mByXSorted) {
+            sort(mByX, mX);
+            mByXSorted = true;
+        }
+
+        return mByX;
+    }
+
+    private synchronized long[] getByHealth() {
+        updateSnapshot();
+
+        if (!mByHealthSorted) {
+            sort(mByHealth, mHealth);
+            mByHealthSorted = true;
+        }
+
+        return mByHealth;
+    }
+
+    private Enemy findFirstInRange(Tower tower, long[] order, boolean descending) {
+        Vector2 center = tower.getPosition();
+        float range2 = tower.getRange() * tower.getRange();
+
+        for (int i = 0; i < mSize; i++) {
+            int index = (int) order[descending ? mSize - 1 - i : i];
+
+            if (isTarget(tower, index, center, range2)) {
+                return mEnemies[index];
+            }
+        }
+
+        return null;
+    }
+
+    // only the enemies within the vertical strip of the range are checked
+    private Enemy findClosest(Tower tower) {
+        long[] order = getByX();
+        Vector2 center = tower.getPosition();
+        float range = tower.getRange();
+        float range2 = range * range;
+        float maxX = center.x() + range;
+
+        Enemy closest = null;
+        float closestDistance2 = 0f;
+
+        for (int i = lowerBound(order, center.x() - range); i < mSize; i++) {
+            int index = (int) order[i];
+
+            if (mX[index] > maxX) {
+                break;
+            }
+
+            float dx = mX[index] - center.x();
+            float dy = mY[index] - center.y();
+            float distance2 = dx * dx + dy * dy;
+
+            if (closest != null && distance2 >= closestDistance2) {
+                continue;
+            }
+
+            if (isTarget(tower, index, center, range2)) {
+                closest = mEnemies[index];
+                closestDistance2 = distance2;
+            }
+        }
+
+        return closest;
+    }
+
+    // enemies removed earlier in this tick are still in the snapshot
+    private boolean isTarget(Tower tower, int index, Vector2 center, float range2) {
+        float dx = mX[index] - center.x();
+        float dy = mY[index] - center.y();
+
+        if (dx * dx + dy * dy > range2) {
+            return false;
+        }
+
+        Enemy enemy = mEnemies[index];
+        return enemy.isInGame() && tower.isPossibleTarget(enemy);
+    }
+
+    private int lowerBound(long[] order, float value) {
+        long key = (long) toSortable(value) << 32;
+        int low = 0;
+        int high = mSize;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (order[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private void sort(long[] order, float[] values) {
+        for (int i = 0; i < mSize; i++) {
+            order[i] = ((long) toSortable(values[i]) << 32) | i;
+        }
+
+        Arrays.sort(order, 0, mSize);
+    }
+
+    // maps floats to ints with the same ordering
+    private static int toSortable(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7FFFFFFF);
+    }
+
+    private void grow() {
+        int capacity = mEnemies.length * 2;
+        mEnemies = Arrays.copyOf(mEnemies, capacity);
+        mX = Arrays.copyOf(mX, capacity);
+        mY = Arrays.copyOf(mY, capacity);
+        mHealth = Arrays.copyOf(mHealth, capacity);
+        mByX = new long[capacity];
+        mByHealth = new long[capacity];
+    }
+}
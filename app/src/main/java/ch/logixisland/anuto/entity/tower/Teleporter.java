@@ -167,9 +167,14 @@ public class Teleporter extends Tower implements SpriteTransformation {
         return properties;
     }
 
+    @Override
+    public boolean isPossibleTarget(Enemy enemy) {
+        return !enemy.isBeingTeleported() && !enemy.wasTeleported();
+    }
+
     @Override
     public StreamIterator<Enemy> getPossibleTargets() {
         return super.getPossibleTargets()
-                .filter(enemy -> !enemy.isBeingTeleported() && !enemy.wasTeleported());
+                .filter(this::isPossibleTarget);
     }
 }
@@ -8,10 +8,14 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import ch.logixisland.anuto.engine.logic.GameEngine;
 import ch.logixisland.anuto.engine.logic.entity.Entity;
 import ch.logixisland.anuto.engine.logic.loop.TickTimer;
+import ch.logixisland.anuto.engine.logic.map.GameMap;
+import ch.logixisland.anuto.engine.logic.map.PathRange;
 import ch.logixisland.anuto.entity.EntityTypes;
+import ch.logixisland.anuto.entity.effect.AreaObserver;
 import ch.logixisland.anuto.entity.enemy.Enemy;
 import ch.logixisland.anuto.entity.enemy.WeaponType;
 import ch.logixisland.anuto.entity.plateau.Plateau;
+import ch.logixisland.anuto.util.iterator.Predicate;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 
 public abstract class Tower extends Entity {
@@ -37,7 +41,22 @@ public abstract class Tower extends Entity {
 
     private final TickTimer mReloadTimer;
     private RangeIndicator mRangeIndicator;
+    private PathRange mPathRange;
+    private final Predicate<Enemy> mPossibleTargetFilter = this::isPossibleTarget;
     private LevelIndicator mLevelIndicator;
+    private AreaObserver mRangeObserver;
+
+    private final AreaObserver.Listener mRangeListener = new AreaObserver.Listener() {
+        @Override
+        public void enemyEntered(Enemy enemy) {
+            wake();
+        }
+
+        @Override
+        public void enemyExited(Enemy enemy) {
+
+        }
+    };
 
     private final List<Listener> mListeners = new CopyOnWriteArrayList<>();
 
@@ -66,6 +85,7 @@ public abstract class Tower extends Entity {
     public void clean() {
         super.clean();
         hideRange();
+        stopWatchingRange();
 
         if (mPlateau != null) {
             mPlateau.setOccupied(false);
@@ -73,12 +93,89 @@ public abstract class Tower extends Entity {
         }
     }
 
+    @Override
+    public void sense() {
+        super.sense();
+        Aimer aimer = getAimer();
+
+        if (aimer != null) {
+            aimer.sense(getSleptTicks());
+        }
+    }
+
     @Override
     public void tick() {
         super.tick();
 
-        if (mBuilt && !mReloaded && mReloadTimer.tick()) {
-            mReloaded = true;
+        // the reload timer stops when it fires, so it catches up only until then
+        if (mBuilt && !mReloaded) {
+            int ticks = Math.min(getSleptTicks() + 1, mReloadTimer.getTicksLeft());
+            mReloaded = mReloadTimer.skip(ticks);
+        }
+
+        if (canSleep()) {
+            sleepUntilNextAim();
+        } else {
+            stopWatchingRange();
+        }
+    }
+
+    // idle towers sleep until an enemy enters their range, or until their aimer looks for a target
+    // again while enemies are in range; towers that have other work to do (e.g. animations) must
+    // not sleep until it is done
+    protected boolean canSleep() {
+        Aimer aimer = getAimer();
+        return mBuilt && aimer != null && aimer.isIdle();
+    }
+
+    private void sleepUntilNextAim() {
+        if (getGameEngine().getEntityCount(EntityTypes.ENEMY) == 0) {
+            stopWatchingRange();
+            sleepUntilAdded(EntityTypes.ENEMY);
+            return;
+        }
+
+        if (watchRange()) {
+            sleep();
+            return;
+        }
+
+        int ticks = getAimer().getTicksUntilUpdate();
+
+        if (ticks > 1) {
+            sleep(ticks);
+        }
+    }
+
+    // the range is only watched while no enemy is in it, returns whether it is
+    private boolean watchRange() {
+        if (mRangeObserver == null) {
+            mRangeObserver = new AreaObserver(getGameEngine(), getPosition(), mRange, mRangeListener);
+        }
+
+        if (!mRangeObserver.isStarted()) {
+            StreamIterator<Entity> enemies = getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), mRange);
+            boolean enemyInRange = enemies.hasNext();
+            enemies.close();
+
+            if (enemyInRange) {
+                return false;
+            }
+
+            mRangeObserver.start();
+        }
+
+        if (mRangeObserver.isEmpty()) {
+            return true;
+        }
+
+        mRangeObserver.clean();
+        return false;
+    }
+
+    private void stopWatchingRange() {
+        if (mRangeObserver != null) {
+            mRangeObserver.clean();
         }
     }
 
@@ -111,6 +208,7 @@ public abstract class Tower extends Entity {
     public void setBuilt() {
         mBuilt = true;
         mReloaded = true;
+        getPathRange();
     }
 
     public WeaponType getWeaponType() {
@@ -145,6 +243,17 @@ public abstract class Tower extends Entity {
         return mRange;
     }
 
+    // the parts of the paths within range, computed again when the position or the range changed
+    public PathRange getPathRange() {
+        GameMap gameMap = getGameEngine().getGameMap();
+
+        if (mPathRange == null || !mPathRange.matches(gameMap, getPosition(), mRange)) {
+            mPathRange = new PathRange(gameMap, getPosition(), mRange);
+        }
+
+        return mPathRange;
+    }
+
     public float getReloadTime() {
         return mReloadTime;
     }
@@ -191,6 +300,11 @@ public abstract class Tower extends Entity {
 
         mReloadTimer.setInterval(mReloadTime);
 
+        // a tower waiting for enemies has to watch the new range
+        stopWatchingRange();
+        mRangeObserver = null;
+        wake();
+
         for (Listener listener : mListeners) {
             listener.propertiesChanged();
         }
@@ -244,9 +358,17 @@ public abstract class Tower extends Entity {
         }
     }
 
+    // used by the targeting service, towers that restrict getPossibleTargets() must override it too
+    public boolean isPossibleTarget(Enemy enemy) {
+        return true;
+    }
+
+    Predicate<Enemy> getPossibleTargetFilter() {
+        return mPossibleTargetFilter;
+    }
+
     public StreamIterator<Enemy> getPossibleTargets() {
-        return getGameEngine().getEntitiesByType(EntityTypes.ENEMY)
-                .filter(inRange(getPosition(), mRange))
+        return getGameEngine().getEntitiesInRange(EntityTypes.ENEMY, getPosition(), mRange)
                 .cast(Enemy.class);
     }
 
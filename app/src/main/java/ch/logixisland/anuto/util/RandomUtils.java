@@ -7,6 +7,10 @@ public final class RandomUtils {
     private RandomUtils() {
     }
 
+    public static void setSeed(long seed) {
+        sRandom.setSeed(seed);
+    }
+
     public static int next(int max) {
         return sRandom.nextInt(max);
     }
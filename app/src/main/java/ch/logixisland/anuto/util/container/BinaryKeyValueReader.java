@@ -0,0 +1,193 @@
+package ch.logixisland.anuto.util.container;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads the format written by BinaryKeyValueWriter into the same tree as JsonKeyValueReader.
+class BinaryKeyValueReader {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final DataInputStream mInput;
+    private final List<String> mStrings = new ArrayList<>();
+
+    BinaryKeyValueReader(InputStream input) {
+        mInput = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+    }
+
+    static boolean hasMagic(InputStream input) throws IOException {
+        input.mark(BinaryKeyValueWriter.MAGIC.length);
+
+        try {
+            for (byte b : BinaryKeyValueWriter.MAGIC) {
+                if (input.read() != b) {
+                    return false;
+                }
+            }
+
+            return true;
+        } finally {
+            input.reset();
+        }
+    }
+
+    JSONObject readObject() throws IOException, JSONException {
+        byte[] magic = new byte[BinaryKeyValueWriter.MAGIC.length];
+        mInput.readFully(magic);
+
+        for (int i = 0; i < BinaryKeyValueWriter.MAGIC.length; i++) {
+            if (magic[i] != BinaryKeyValueWriter.MAGIC[i]) {
+                throw new JSONException("Not a binary key value store!");
+            }
+        }
+
+        int version = mInput.readUnsignedByte();
+
+        if (version != BinaryKeyValueWriter.FORMAT_VERSION) {
+            throw new JSONException("Unsupported binary format version: " + version);
+        }
+
+        if (mInput.readUnsignedByte() != BinaryKeyValueWriter.TAG_OBJECT) {
+            throw new JSONException("Expected object at top level!");
+        }
+
+        return readObjectMembers();
+    }
+
+    private Object readValue(int tag) throws IOException, JSONException {
+        switch (tag) {
+            case BinaryKeyValueWriter.TAG_OBJECT:
+                return readObjectMembers();
+            case BinaryKeyValueWriter.TAG_ARRAY:
+                return readArrayElements();
+            case BinaryKeyValueWriter.TAG_INT: {
+                int value = readVarInt();
+                return (value >>> 1) ^ -(value & 1);
+            }
+            case BinaryKeyValueWriter.TAG_LONG: {
+                long value = readVarLong();
+                return (value >>> 1) ^ -(value & 1);
+            }
+            case BinaryKeyValueWriter.TAG_FLOAT:
+                return (double) mInput.readFloat();
+            case BinaryKeyValueWriter.TAG_DOUBLE:
+                return mInput.readDouble();
+            case BinaryKeyValueWriter.TAG_TRUE:
+                return Boolean.TRUE;
+            case BinaryKeyValueWriter.TAG_FALSE:
+                return Boolean.FALSE;
+            case BinaryKeyValueWriter.TAG_NULL:
+                return JSONObject.NULL;
+            case BinaryKeyValueWriter.TAG_STRING_NEW:
+                return readNewString();
+            case BinaryKeyValueWriter.TAG_STRING_REF:
+                return getString(readVarInt());
+            case BinaryKeyValueWriter.TAG_VECTOR_LIST:
+                return readVectorList();
+            default:
+                throw new JSONException("Unknown tag: " + tag);
+        }
+    }
+
+    private JSONObject readObjectMembers() throws IOException, JSONException {
+        JSONObject jsonObject = new JSONObject();
+
+        while (true) {
+            int token = readVarInt();
+            String key;
+
+            if (token == BinaryKeyValueWriter.KEY_END) {
+                return jsonObject;
+            } else if (token == BinaryKeyValueWriter.KEY_NEW) {
+                key = readNewString();
+            } else {
+                key = getString(token - BinaryKeyValueWriter.KEY_REF_OFFSET);
+            }
+
+            jsonObject.put(key, readValue(mInput.readUnsignedByte()));
+        }
+    }
+
+    private JSONArray readArrayElements() throws IOException, JSONException {
+        JSONArray jsonArray = new JSONArray();
+
+        while (true) {
+            int tag = mInput.readUnsignedByte();
+
+            if (tag == BinaryKeyValueWriter.TAG_END) {
+                return jsonArray;
+            }
+
+            jsonArray.put(readValue(tag));
+        }
+    }
+
+    private JSONArray readVectorList() throws IOException, JSONException {
+        int count = readVarInt();
+        JSONArray jsonArray = new JSONArray();
+
+        for (int i = 0; i < count; i++) {
+            JSONObject jsonObject = new JSONObject();
+            jsonObject.put("x", (double) mInput.readFloat());
+            jsonObject.put("y", (double) mInput.readFloat());
+            jsonArray.put(jsonObject);
+        }
+
+        return jsonArray;
+    }
+
+    private String readNewString() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        mInput.readFully(bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        mStrings.add(value);
+        return value;
+    }
+
+    private String getString(int index) throws JSONException {
+        if (index < 0 || index >= mStrings.size()) {
+            throw new JSONException("Invalid string reference: " + index);
+        }
+
+        return mStrings.get(index);
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = mInput.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed varint!");
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = mInput.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed varint!");
+    }
+}
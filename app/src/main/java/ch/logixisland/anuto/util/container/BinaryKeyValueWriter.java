@@ -0,0 +1,184 @@
+package ch.logixisland.anuto.util.container;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Writes key value data in a compact tagged binary format. Keys and strings are written once and
+// referenced by index afterwards, vector lists are written as packed floats.
+class BinaryKeyValueWriter extends KeyValueWriter {
+
+    static final byte[] MAGIC = {'A', 'N', 'U', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    static final int TAG_END = 0;
+    static final int TAG_OBJECT = 1;
+    static final int TAG_ARRAY = 2;
+    static final int TAG_INT = 3;
+    static final int TAG_LONG = 4;
+    static final int TAG_FLOAT = 5;
+    static final int TAG_DOUBLE = 6;
+    static final int TAG_TRUE = 7;
+    static final int TAG_FALSE = 8;
+    static final int TAG_NULL = 9;
+    static final int TAG_STRING_NEW = 10;
+    static final int TAG_STRING_REF = 11;
+    static final int TAG_VECTOR_LIST = 12;
+
+    // object members start with a key token: end of object, new key or index into the string table + 2
+    static final int KEY_END = 0;
+    static final int KEY_NEW = 1;
+    static final int KEY_REF_OFFSET = 2;
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final DataOutputStream mOutput;
+    private final Map<String, Integer> mStrings = new HashMap<>();
+
+    BinaryKeyValueWriter(OutputStream output) throws IOException {
+        mOutput = new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+        mOutput.write(MAGIC);
+        mOutput.writeByte(FORMAT_VERSION);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            mOutput.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        mOutput.close();
+    }
+
+    @Override
+    void beginObject() throws IOException {
+        mOutput.writeByte(TAG_OBJECT);
+    }
+
+    @Override
+    void endObject() throws IOException {
+        writeVarInt(KEY_END);
+    }
+
+    @Override
+    void beginArray() throws IOException {
+        mOutput.writeByte(TAG_ARRAY);
+    }
+
+    @Override
+    void endArray() throws IOException {
+        mOutput.writeByte(TAG_END);
+    }
+
+    @Override
+    void name(String key) throws IOException {
+        Integer index = mStrings.get(key);
+
+        if (index != null) {
+            writeVarInt(index + KEY_REF_OFFSET);
+        } else {
+            writeVarInt(KEY_NEW);
+            writeNewString(key);
+        }
+    }
+
+    @Override
+    void stringValue(String value) throws IOException {
+        Integer index = mStrings.get(value);
+
+        if (index != null) {
+            mOutput.writeByte(TAG_STRING_REF);
+            writeVarInt(index);
+        } else {
+            mOutput.writeByte(TAG_STRING_NEW);
+            writeNewString(value);
+        }
+    }
+
+    @Override
+    void intValue(int value) throws IOException {
+        mOutput.writeByte(TAG_INT);
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    @Override
+    void longValue(long value) throws IOException {
+        mOutput.writeByte(TAG_LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    @Override
+    void floatValue(float value) throws IOException {
+        mOutput.writeByte(TAG_FLOAT);
+        mOutput.writeFloat(value);
+    }
+
+    @Override
+    void doubleValue(double value) throws IOException {
+        // floats are stored widened to double by KeyValueStore
+        if (value == (float) value) {
+            floatValue((float) value);
+        } else {
+            mOutput.writeByte(TAG_DOUBLE);
+            mOutput.writeDouble(value);
+        }
+    }
+
+    @Override
+    void booleanValue(boolean value) throws IOException {
+        mOutput.writeByte(value ? TAG_TRUE : TAG_FALSE);
+    }
+
+    @Override
+    void nullValue() throws IOException {
+        mOutput.writeByte(TAG_NULL);
+    }
+
+    @Override
+    void vectorListValue(List<Vector2> vectors) throws IOException {
+        mOutput.writeByte(TAG_VECTOR_LIST);
+        writeVarInt(vectors.size());
+
+        for (Vector2 vector : vectors) {
+            mOutput.writeFloat(vector.x());
+            mOutput.writeFloat(vector.y());
+        }
+    }
+
+    private void writeNewString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        mOutput.write(bytes);
+        mStrings.put(value, mStrings.size());
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            mOutput.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        mOutput.writeByte(value);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            mOutput.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        mOutput.writeByte((int) value);
+    }
+}
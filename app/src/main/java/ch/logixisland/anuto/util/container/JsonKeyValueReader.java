@@ -0,0 +1,245 @@
+package ch.logixisland.anuto.util.container;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+// Parses JSON directly from a stream, without reading it into a string first.
+class JsonKeyValueReader {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Reader mReader;
+    private final StringBuilder mBuilder = new StringBuilder();
+    private int mPeeked = -2;
+
+    JsonKeyValueReader(InputStream input) {
+        mReader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    JSONObject readObject() throws IOException, JSONException {
+        Object value = readValue();
+
+        if (!(value instanceof JSONObject)) {
+            throw new JSONException("Expected object at top level!");
+        }
+
+        return (JSONObject) value;
+    }
+
+    private Object readValue() throws IOException, JSONException {
+        int c = nextNonWhitespace();
+
+        switch (c) {
+            case '{':
+                return readObjectMembers();
+            case '[':
+                return readArrayElements();
+            case '"':
+                return readString();
+            case -1:
+                throw new JSONException("Unexpected end of input!");
+            default:
+                return readLiteral(c);
+        }
+    }
+
+    private JSONObject readObjectMembers() throws IOException, JSONException {
+        JSONObject jsonObject = new JSONObject();
+
+        if (peekNonWhitespace() == '}') {
+            read();
+            return jsonObject;
+        }
+
+        while (true) {
+            if (nextNonWhitespace() != '"') {
+                throw new JSONException("Expected key!");
+            }
+
+            String key = readString();
+
+            if (nextNonWhitespace() != ':') {
+                throw new JSONException("Expected ':' after " + key);
+            }
+
+            jsonObject.put(key, readValue());
+
+            int c = nextNonWhitespace();
+
+            if (c == '}') {
+                return jsonObject;
+            }
+
+            if (c != ',') {
+                throw new JSONException("Expected ',' or '}'!");
+            }
+        }
+    }
+
+    private JSONArray readArrayElements() throws IOException, JSONException {
+        JSONArray jsonArray = new JSONArray();
+
+        if (peekNonWhitespace() == ']') {
+            read();
+            return jsonArray;
+        }
+
+        while (true) {
+            jsonArray.put(readValue());
+
+            int c = nextNonWhitespace();
+
+            if (c == ']') {
+                return jsonArray;
+            }
+
+            if (c != ',') {
+                throw new JSONException("Expected ',' or ']'!");
+            }
+        }
+    }
+
+    private String readString() throws IOException, JSONException {
+        mBuilder.setLength(0);
+
+        while (true) {
+            int c = read();
+
+            switch (c) {
+                case -1:
+                    throw new JSONException("Unterminated string!");
+                case '"':
+                    return mBuilder.toString();
+                case '\\':
+                    mBuilder.append(readEscaped());
+                    break;
+                default:
+                    mBuilder.append((char) c);
+            }
+        }
+    }
+
+    private char readEscaped() throws IOException, JSONException {
+        int c = read();
+
+        switch (c) {
+            case 'u':
+                int value = 0;
+
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+
+                    if (digit < 0) {
+                        throw new JSONException("Invalid unicode escape!");
+                    }
+
+                    value = value * 16 + digit;
+                }
+
+                return (char) value;
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case -1:
+                throw new JSONException("Unterminated escape sequence!");
+            default:
+                return (char) c;
+        }
+    }
+
+    // numbers are converted the same way as by org.json's JSONTokener
+    private Object readLiteral(int first) throws IOException, JSONException {
+        mBuilder.setLength(0);
+        mBuilder.append((char) first);
+
+        while (true) {
+            int c = peek();
+
+            if (c == -1 || c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+
+            mBuilder.append((char) read());
+        }
+
+        String literal = mBuilder.toString();
+
+        switch (literal) {
+            case "null":
+                return JSONObject.NULL;
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+        }
+
+        try {
+            if (literal.indexOf('.') < 0 && literal.indexOf('e') < 0 && literal.indexOf('E') < 0) {
+                long longValue = Long.parseLong(literal);
+
+                if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+                    return (int) longValue;
+                }
+
+                return longValue;
+            }
+
+            return Double.valueOf(literal);
+        } catch (NumberFormatException e) {
+            throw new JSONException("Invalid literal: " + literal);
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+
+        do {
+            c = read();
+        } while (c != -1 && Character.isWhitespace(c));
+
+        return c;
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c;
+
+        while ((c = peek()) != -1 && Character.isWhitespace(c)) {
+            read();
+        }
+
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (mPeeked == -2) {
+            mPeeked = mReader.read();
+        }
+
+        return mPeeked;
+    }
+
+    private int read() throws IOException {
+        if (mPeeked != -2) {
+            int c = mPeeked;
+            mPeeked = -2;
+            return c;
+        }
+
+        return mReader.read();
+    }
+}
@@ -0,0 +1,185 @@
+package ch.logixisland.anuto.util.container;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// Writes the same JSON as KeyValueStore.toStream() without building the whole tree in memory first.
+class JsonKeyValueWriter extends KeyValueWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Writer mWriter;
+
+    // one entry per open store or list, true until the first value was written
+    private final Deque<Boolean> mFirstValue = new ArrayDeque<>();
+
+    // a key was written and its value is pending, so no separator is needed
+    private boolean mAfterName;
+
+    JsonKeyValueWriter(OutputStream output) {
+        mWriter = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            mWriter.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        mWriter.close();
+    }
+
+    @Override
+    void beginObject() throws IOException {
+        beginValue();
+        mWriter.write('{');
+        mFirstValue.push(true);
+    }
+
+    @Override
+    void endObject() throws IOException {
+        mFirstValue.pop();
+        mWriter.write('}');
+    }
+
+    @Override
+    void beginArray() throws IOException {
+        beginValue();
+        mWriter.write('[');
+        mFirstValue.push(true);
+    }
+
+    @Override
+    void endArray() throws IOException {
+        mFirstValue.pop();
+        mWriter.write(']');
+    }
+
+    @Override
+    void name(String key) throws IOException {
+        beginValue();
+        writeString(key);
+        mWriter.write(':');
+        mAfterName = true;
+    }
+
+    @Override
+    void stringValue(String value) throws IOException {
+        beginValue();
+        writeString(value);
+    }
+
+    @Override
+    void intValue(int value) throws IOException {
+        beginValue();
+        mWriter.write(Integer.toString(value));
+    }
+
+    @Override
+    void longValue(long value) throws IOException {
+        beginValue();
+        mWriter.write(Long.toString(value));
+    }
+
+    // Float.toString() is the shortest representation that reads back to the same float
+    @Override
+    void floatValue(float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new RuntimeException("Cannot write non-finite number: " + value);
+        }
+
+        beginValue();
+        mWriter.write(Float.toString(value));
+    }
+
+    @Override
+    void doubleValue(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new RuntimeException("Cannot write non-finite number: " + value);
+        }
+
+        beginValue();
+
+        if (value == (long) value) {
+            mWriter.write(Long.toString((long) value));
+        } else if (value == (float) value) {
+            // floats are stored widened to double by KeyValueStore
+            mWriter.write(Float.toString((float) value));
+        } else {
+            mWriter.write(Double.toString(value));
+        }
+    }
+
+    @Override
+    void booleanValue(boolean value) throws IOException {
+        beginValue();
+        mWriter.write(value ? "true" : "false");
+    }
+
+    @Override
+    void nullValue() throws IOException {
+        beginValue();
+        mWriter.write("null");
+    }
+
+    private void beginValue() throws IOException {
+        if (mAfterName) {
+            mAfterName = false;
+            return;
+        }
+
+        if (mFirstValue.isEmpty()) {
+            return;
+        }
+
+        if (!mFirstValue.pop()) {
+            mWriter.write(',');
+        }
+
+        mFirstValue.push(false);
+    }
+
+    private void writeString(String value) throws IOException {
+        mWriter.write('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                case '\\':
+                    mWriter.write('\\');
+                    mWriter.write(c);
+                    break;
+                case '\n':
+                    mWriter.write("\\n");
+                    break;
+                case '\r':
+                    mWriter.write("\\r");
+                    break;
+                case '\t':
+                    mWriter.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        mWriter.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        mWriter.write(c);
+                    }
+            }
+        }
+
+        mWriter.write('"');
+    }
+}
@@ -6,11 +6,10 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -43,20 +42,16 @@ public class KeyValueStore {
         }
     }
 
+    // accepts both the JSON and the binary format
     public static KeyValueStore fromStream(InputStream input) {
         try {
-            char[] buffer = new char[1024];
-            StringBuilder stringBuilder = new StringBuilder();
-            InputStreamReader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
-
-            while (true) {
-                int count = reader.read(buffer, 0, buffer.length);
-                if (count < 0)
-                    break;
-                stringBuilder.append(buffer, 0, count);
+            InputStream bufferedInput = new BufferedInputStream(input);
+
+            if (BinaryKeyValueReader.hasMagic(bufferedInput)) {
+                return new KeyValueStore(new BinaryKeyValueReader(bufferedInput).readObject());
             }
 
-            return new KeyValueStore(new JSONObject(stringBuilder.toString()));
+            return new KeyValueStore(new JsonKeyValueReader(bufferedInput).readObject());
         } catch (IOException e) {
             throw new RuntimeException(e);
         } catch (JSONException e) {
@@ -65,17 +60,25 @@ public class KeyValueStore {
     }
 
     public void toStream(OutputStream output) {
-        try {
-            output.write(mJsonObject.toString().getBytes(StandardCharsets.UTF_8));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        KeyValueWriter writer = KeyValueWriter.createJsonWriter(output);
+        writer.beginStore();
+        writer.putAll(this);
+        writer.endStore();
+        writer.flush();
+    }
+
+    JSONObject getJsonObject() {
+        return mJsonObject;
     }
 
     public boolean hasKey(String key) {
         return mJsonObject.has(key);
     }
 
+    public void remove(String key) {
+        mJsonObject.remove(key);
+    }
+
     public Collection<String> getKeys() {
         Collection<String> collection = new ArrayList<>();
         Iterator<String> iterator = mJsonObject.keys();
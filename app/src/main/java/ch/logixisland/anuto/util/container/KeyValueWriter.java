@@ -0,0 +1,300 @@
+package ch.logixisland.anuto.util.container;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Writes key value data to a stream without building the whole KeyValueStore tree in memory first.
+public abstract class KeyValueWriter implements Closeable {
+
+    private final SimpleDateFormat mDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    public static KeyValueWriter createJsonWriter(OutputStream output) {
+        return new JsonKeyValueWriter(output);
+    }
+
+    public static KeyValueWriter createBinaryWriter(OutputStream output) {
+        try {
+            return new BinaryKeyValueWriter(output);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void beginStore() {
+        try {
+            beginObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void endStore() {
+        try {
+            endObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void beginStoreList(String key) {
+        try {
+            name(key);
+            beginArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void endStoreList() {
+        try {
+            endArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void appendStore(KeyValueStore store) {
+        try {
+            writeObject(store.getJsonObject());
+        } catch (IOException | JSONException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // writes all values of the given store into the current store
+    public void putAll(KeyValueStore store) {
+        try {
+            JSONObject jsonObject = store.getJsonObject();
+            Iterator<String> iterator = jsonObject.keys();
+
+            while (iterator.hasNext()) {
+                String key = iterator.next();
+                name(key);
+                writeValue(jsonObject.get(key));
+            }
+        } catch (IOException | JSONException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putStore(String key, KeyValueStore store) {
+        try {
+            name(key);
+            writeObject(store.getJsonObject());
+        } catch (IOException | JSONException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putString(String key, String value) {
+        try {
+            name(key);
+            stringValue(value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putDate(String key, Date value) {
+        putString(key, mDateFormat.format(value));
+    }
+
+    public void putStringList(String key, List<String> strings) {
+        try {
+            name(key);
+            beginArray();
+
+            for (String string : strings) {
+                stringValue(string);
+            }
+
+            endArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putInt(String key, int value) {
+        try {
+            name(key);
+            intValue(value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putFloat(String key, float value) {
+        try {
+            name(key);
+            floatValue(value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putBoolean(String key, boolean value) {
+        try {
+            name(key);
+            booleanValue(value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void putVector(String key, Vector2 vector) {
+        putFloat(key + ".x", vector.x());
+        putFloat(key + ".y", vector.y());
+    }
+
+    public void putVectorList(String key, List<Vector2> vectors) {
+        try {
+            name(key);
+            vectorListValue(vectors);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public abstract void flush();
+
+    abstract void beginObject() throws IOException;
+
+    abstract void endObject() throws IOException;
+
+    abstract void beginArray() throws IOException;
+
+    abstract void endArray() throws IOException;
+
+    abstract void name(String key) throws IOException;
+
+    abstract void stringValue(String value) throws IOException;
+
+    abstract void intValue(int value) throws IOException;
+
+    abstract void longValue(long value) throws IOException;
+
+    abstract void floatValue(float value) throws IOException;
+
+    abstract void doubleValue(double value) throws IOException;
+
+    abstract void booleanValue(boolean value) throws IOException;
+
+    abstract void nullValue() throws IOException;
+
+    // same structure as KeyValueStore.putVectorList()
+    void vectorListValue(List<Vector2> vectors) throws IOException {
+        beginArray();
+
+        for (Vector2 vector : vectors) {
+            beginObject();
+            name("x");
+            floatValue(vector.x());
+            name("y");
+            floatValue(vector.y());
+            endObject();
+        }
+
+        endArray();
+    }
+
+    private void writeObject(JSONObject jsonObject) throws IOException, JSONException {
+        beginObject();
+        Iterator<String> iterator = jsonObject.keys();
+
+        while (iterator.hasNext()) {
+            String key = iterator.next();
+            name(key);
+            writeValue(jsonObject.get(key));
+        }
+
+        endObject();
+    }
+
+    private void writeArray(JSONArray jsonArray) throws IOException, JSONException {
+        List<Vector2> vectors = asVectorList(jsonArray);
+
+        if (vectors != null) {
+            vectorListValue(vectors);
+            return;
+        }
+
+        beginArray();
+
+        for (int i = 0; i < jsonArray.length(); i++) {
+            writeValue(jsonArray.get(i));
+        }
+
+        endArray();
+    }
+
+    private void writeValue(Object value) throws IOException, JSONException {
+        if (value instanceof JSONObject) {
+            writeObject((JSONObject) value);
+        } else if (value instanceof JSONArray) {
+            writeArray((JSONArray) value);
+        } else if (value instanceof String) {
+            stringValue((String) value);
+        } else if (value instanceof Integer) {
+            intValue((Integer) value);
+        } else if (value instanceof Long) {
+            longValue((Long) value);
+        } else if (value instanceof Float) {
+            floatValue((Float) value);
+        } else if (value instanceof Number) {
+            doubleValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            booleanValue((Boolean) value);
+        } else {
+            nullValue();
+        }
+    }
+
+    // returns null if the array was not written by KeyValueStore.putVectorList()
+    private static List<Vector2> asVectorList(JSONArray jsonArray) throws JSONException {
+        if (jsonArray.length() == 0) {
+            return null;
+        }
+
+        List<Vector2> vectors = new ArrayList<>(jsonArray.length());
+
+        for (int i = 0; i < jsonArray.length(); i++) {
+            Object element = jsonArray.get(i);
+
+            if (!(element instanceof JSONObject)) {
+                return null;
+            }
+
+            JSONObject jsonObject = (JSONObject) element;
+            Object x = jsonObject.opt("x");
+            Object y = jsonObject.opt("y");
+
+            if (jsonObject.length() != 2 || !(x instanceof Number) || !(y instanceof Number)) {
+                return null;
+            }
+
+            float fx = ((Number) x).floatValue();
+            float fy = ((Number) y).floatValue();
+
+            // only compact values that survive the conversion to float
+            if (fx != ((Number) x).doubleValue() || fy != ((Number) y).doubleValue()) {
+                return null;
+            }
+
+            vectors.add(new Vector2(fx, fy));
+        }
+
+        return vectors;
+    }
+}
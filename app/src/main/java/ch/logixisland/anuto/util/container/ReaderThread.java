@@ -0,0 +1,14 @@
+package ch.logixisland.anuto.util.container;
+
+// Threads that iterate the containers while the thread owning them waits, so nothing is modified
+// concurrently. They bypass the iterator pools, which are not synchronized.
+public class ReaderThread extends Thread {
+
+    public ReaderThread(Runnable runnable, String name) {
+        super(runnable, name);
+    }
+
+    public static boolean isCurrent() {
+        return Thread.currentThread() instanceof ReaderThread;
+    }
+}
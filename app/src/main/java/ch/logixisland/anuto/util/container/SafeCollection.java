@@ -1,102 +1,159 @@
 package ch.logixisland.anuto.util.container;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 
 import ch.logixisland.anuto.util.iterator.LazyIterator;
 import ch.logixisland.anuto.util.iterator.StreamIterable;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 
+// Removed elements leave an empty slot behind, so iterators never need to be adjusted. Elements
+// added during iteration are appended and still visited. The empty slots are only reclaimed by
+// compact(), which must be called while no iteration is in progress (e.g. between ticks).
+// Closed iterators are kept in a pool and handed out again, so they must not be used afterwards.
+// For-each loops never close their iterator and allocate a new one, hot loops close explicitly.
+// Reader threads may iterate concurrently as long as the collection is not modified meanwhile.
 public class SafeCollection<T> implements Collection<T>, StreamIterable<T> {
 
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ITERATOR_POOL_CAPACITY = 4;
+
     private class SafeIterator extends LazyIterator<T> {
-        private int mNextIndex = 0;
+        private int mNextIndex;
+        private boolean mPooled;
 
-        private SafeIterator() {
-            mIterators.add(this);
+        private void start() {
+            reset();
+            mNextIndex = 0;
+            mPooled = false;
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T fetchNext() {
-            T ret = null;
+            while (mNextIndex < mEnd) {
+                Object item = mItems[mNextIndex++];
 
-            if (mNextIndex < mItems.size()) {
-                ret = mItems.get(mNextIndex++);
-            } else {
-                close();
+                if (item != null) {
+                    return (T) item;
+                }
             }
 
-            return ret;
+            return null;
         }
 
         @Override
         public void close() {
-            mIterators.remove(this);
+            if (!mPooled && !ReaderThread.isCurrent()) {
+                mPooled = true;
+
+                if (mIteratorPool.size() < ITERATOR_POOL_CAPACITY) {
+                    mIteratorPool.push(this);
+                }
+            }
         }
 
         @Override
         public void remove() {
-            SafeCollection.this.remove(mNextIndex - 1);
+            removeSlot(mNextIndex - 1);
         }
     }
 
 
-    private final List<T> mItems;
-    private final Collection<SafeIterator> mIterators = new ArrayList<>();
+    private Object[] mItems = new Object[INITIAL_CAPACITY];
+    private int mEnd;
+    private int mSize;
+    private final Deque<SafeIterator> mIteratorPool = new ArrayDeque<>(ITERATOR_POOL_CAPACITY);
 
 
     public SafeCollection() {
-        mItems = new ArrayList<>();
+
     }
 
 
     @Override
     public boolean add(T object) {
-        return mItems.add(object);
+        if (mEnd == mItems.length) {
+            mItems = Arrays.copyOf(mItems, mItems.length * 2);
+        }
+
+        int slot = mEnd++;
+        mItems[slot] = object;
+        mSize++;
+
+        if (object instanceof SlotHandle.Owner) {
+            SlotHandle handle = ((SlotHandle.Owner) object).getSlotHandle();
+
+            if (handle.mCollection == null) {
+                handle.mCollection = this;
+                handle.mSlot = slot;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends T> collection) {
-        return mItems.addAll(collection);
+        for (T item : collection) {
+            add(item);
+        }
+
+        return !collection.isEmpty();
     }
 
     @Override
     public void clear() {
-        mItems.clear();
-
-        for (SafeIterator it : mIterators) {
-            it.mNextIndex = 0;
+        for (int i = 0; i < mEnd; i++) {
+            if (mItems[i] != null) {
+                removeSlot(i);
+            }
         }
     }
 
     @Override
     public boolean contains(Object object) {
-        return mItems.contains(object);
+        return findSlot(object) >= 0;
     }
 
     @Override
     public boolean containsAll(Collection<?> collection) {
-        return mItems.containsAll(collection);
+        for (Object item : collection) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     @Override
     public boolean isEmpty() {
-        return mItems.isEmpty();
+        return mSize == 0;
     }
 
     @Override
     public StreamIterator<T> iterator() {
-        return new SafeIterator();
+        SafeIterator iterator = ReaderThread.isCurrent() ? null : mIteratorPool.poll();
+
+        if (iterator == null) {
+            iterator = new SafeIterator();
+        }
+
+        iterator.start();
+        return iterator;
     }
 
     @Override
     public boolean remove(Object object) {
-        //noinspection SuspiciousMethodCalls
-        int index = mItems.indexOf(object);
+        int slot = findSlot(object);
 
-        if (index >= 0) {
-            remove(index);
+        if (slot >= 0) {
+            removeSlot(slot);
             return true;
         }
 
@@ -132,29 +189,95 @@ public class SafeCollection<T> implements Collection<T>, StreamIterable<T> {
 
     @Override
     public int size() {
-        return mItems.size();
+        return mSize;
     }
 
     @Override
     public Object[] toArray() {
-        return mItems.toArray();
+        return toList().toArray();
     }
 
     @Override
     public <T1> T1[] toArray(T1[] array) {
-        return mItems.toArray(array);
+        return toList().toArray(array);
+    }
+
+    // moves the remaining elements together, keeping their order
+    public void compact() {
+        if (mSize == mEnd) {
+            return;
+        }
+
+        int size = 0;
+
+        for (int i = 0; i < mEnd; i++) {
+            Object item = mItems[i];
+
+            if (item == null) {
+                continue;
+            }
+
+            if (item instanceof SlotHandle.Owner) {
+                SlotHandle handle = ((SlotHandle.Owner) item).getSlotHandle();
+
+                if (handle.mCollection == this) {
+                    handle.mSlot = size;
+                }
+            }
+
+            mItems[size++] = item;
+        }
+
+        Arrays.fill(mItems, size, mEnd, null);
+        mEnd = size;
+    }
+
+    private List<T> toList() {
+        List<T> list = new ArrayList<>(mSize);
+
+        for (T item : this) {
+            list.add(item);
+        }
+
+        return list;
     }
 
-    private T remove(int index) {
-        T ret = mItems.remove(index);
+    private int findSlot(Object object) {
+        if (object instanceof SlotHandle.Owner) {
+            SlotHandle handle = ((SlotHandle.Owner) object).getSlotHandle();
 
-        for (SafeIterator it : mIterators) {
-            if (it.mNextIndex > index) {
-                it.mNextIndex--;
+            if (handle.mCollection == this) {
+                return handle.mSlot;
             }
         }
 
-        return ret;
+        for (int i = 0; i < mEnd; i++) {
+            if (mItems[i] != null && mItems[i].equals(object)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private void removeSlot(int slot) {
+        Object item = mItems[slot];
+
+        if (item == null) {
+            return;
+        }
+
+        if (item instanceof SlotHandle.Owner) {
+            SlotHandle handle = ((SlotHandle.Owner) item).getSlotHandle();
+
+            if (handle.mCollection == this) {
+                handle.mCollection = null;
+                handle.mSlot = -1;
+            }
+        }
+
+        mItems[slot] = null;
+        mSize--;
     }
 
 }
@@ -2,27 +2,36 @@ package ch.logixisland.anuto.util.container;
 
 import android.util.SparseArray;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import ch.logixisland.anuto.util.iterator.LazyIterator;
 import ch.logixisland.anuto.util.iterator.StreamIterable;
 import ch.logixisland.anuto.util.iterator.StreamIterator;
 
 public class SafeMultiMap<T> implements StreamIterable<T> {
 
+    private static final int ITERATOR_POOL_CAPACITY = 4;
+
     private class KeyIterator extends LazyIterator<T> {
-        int mKeyIndex = 0;
+        int mKeyIndex;
         StreamIterator<T> mCollectionIterator;
+        boolean mPooled;
+
+        private void start() {
+            reset();
+            mKeyIndex = 0;
+            mPooled = false;
+        }
 
         @Override
         protected T fetchNext() {
             while (mCollectionIterator == null || !mCollectionIterator.hasNext()) {
+                closeCollectionIterator();
+
                 if (mKeyIndex < mLayers.size()) {
                     mCollectionIterator = mLayers.valueAt(mKeyIndex++).iterator();
                 } else {
-                    mCollectionIterator = null;
-                }
-
-                if (mCollectionIterator == null) {
-                    close();
                     return null;
                 }
             }
@@ -32,6 +41,23 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
 
         @Override
         public void close() {
+            closeCollectionIterator();
+
+            if (!mPooled && !ReaderThread.isCurrent()) {
+                mPooled = true;
+
+                if (mIteratorPool.size() < ITERATOR_POOL_CAPACITY) {
+                    mIteratorPool.push(this);
+                }
+            }
+        }
+
+        @Override
+        public void remove() {
+            mCollectionIterator.remove();
+        }
+
+        private void closeCollectionIterator() {
             if (mCollectionIterator != null) {
                 mCollectionIterator.close();
                 mCollectionIterator = null;
@@ -40,10 +66,18 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
     }
 
     private final SparseArray<SafeCollection<T>> mLayers = new SparseArray<>();
+    private final Deque<KeyIterator> mIteratorPool = new ArrayDeque<>(ITERATOR_POOL_CAPACITY);
 
     @Override
     public StreamIterator<T> iterator() {
-        return new KeyIterator();
+        KeyIterator iterator = ReaderThread.isCurrent() ? null : mIteratorPool.poll();
+
+        if (iterator == null) {
+            iterator = new KeyIterator();
+        }
+
+        iterator.start();
+        return iterator;
     }
 
     public SafeCollection<T> get(int key) {
@@ -57,6 +91,12 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
         return collection;
     }
 
+    // does not create a collection for unknown keys
+    public int size(int key) {
+        SafeCollection<T> collection = mLayers.get(key);
+        return collection != null ? collection.size() : 0;
+    }
+
     public boolean add(int key, T value) {
         return get(key).add(value);
     }
@@ -66,7 +106,17 @@ public class SafeMultiMap<T> implements StreamIterable<T> {
     }
 
     public void clear() {
+        for (int i = 0; i < mLayers.size(); i++) {
+            mLayers.valueAt(i).clear();
+        }
+
         mLayers.clear();
     }
 
+    public void compact() {
+        for (int i = 0; i < mLayers.size(); i++) {
+            mLayers.valueAt(i).compact();
+        }
+    }
+
 }
@@ -0,0 +1,13 @@
+package ch.logixisland.anuto.util.container;
+
+// Remembers where an element is stored in a SafeCollection, so it can be removed without a search.
+// An element can only have a slot in one collection at a time, other collections search for it.
+public final class SlotHandle {
+
+    public interface Owner {
+        SlotHandle getSlotHandle();
+    }
+
+    SafeCollection<?> mCollection;
+    int mSlot = -1;
+}
@@ -0,0 +1,5 @@
+package ch.logixisland.anuto.util.iterator;
+
+public interface FloatScore<T> {
+    float score(T value);
+}
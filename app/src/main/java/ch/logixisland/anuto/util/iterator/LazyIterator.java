@@ -9,6 +9,12 @@ public abstract class LazyIterator<T> extends StreamIterator<T> {
 
     protected abstract T fetchNext();
 
+    // forgets the prefetched element, used when an iterator is taken from a pool
+    protected void reset() {
+        mNextElement = null;
+        mNextFetched = false;
+    }
+
     @Override
     public boolean hasNext() {
         if (!mNextFetched) {
@@ -83,18 +83,26 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             last = this.next();
         }
 
+        this.close();
         return last;
     }
 
+    // reservoir sampling, so the elements do not have to be collected first
     public T random(Random random) {
-        List<T> list = toList();
+        T chosen = null;
+        int cnt = 0;
 
-        if (list.isEmpty()) {
-            return null;
+        while (this.hasNext()) {
+            T object = this.next();
+            cnt++;
+
+            if (random.nextInt(cnt) == 0) {
+                chosen = object;
+            }
         }
 
-        int index = random.nextInt(list.size());
-        return list.get(index);
+        this.close();
+        return chosen;
     }
 
     public int count() {
@@ -105,6 +113,7 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             cnt++;
         }
 
+        this.close();
         return cnt;
     }
 
@@ -121,6 +130,7 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             ret.add(this.next());
         }
 
+        this.close();
         return ret;
     }
 
@@ -136,17 +146,32 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             sb.append(this.next().toString());
         }
 
+        this.close();
         return sb.toString();
     }
 
 
-    public T min(Function<? super T, Float> scoreFunction) {
+    public T min(FloatScore<? super T> score) {
+        return minBy(null, score);
+    }
+
+    public T max(FloatScore<? super T> score) {
+        return maxBy(null, score);
+    }
+
+    // filters and scores in one pass, so no wrapping iterator is needed
+    public T minBy(Predicate<? super T> filter, FloatScore<? super T> score) {
         T minObject = null;
         float minValue = 0f;
 
         while (this.hasNext()) {
             T object = this.next();
-            float value = scoreFunction.apply(object);
+
+            if (filter != null && !filter.apply(object)) {
+                continue;
+            }
+
+            float value = score.score(object);
 
             if (minObject == null || value < minValue) {
                 minObject = object;
@@ -154,16 +179,22 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             }
         }
 
+        this.close();
         return minObject;
     }
 
-    public T max(Function<? super T, Float> scoreFunction) {
+    public T maxBy(Predicate<? super T> filter, FloatScore<? super T> score) {
         T maxObject = null;
         float maxValue = 0f;
 
         while (this.hasNext()) {
             T object = this.next();
-            float value = scoreFunction.apply(object);
+
+            if (filter != null && !filter.apply(object)) {
+                continue;
+            }
+
+            float value = score.score(object);
 
             if (maxObject == null || value > maxValue) {
                 maxObject = object;
@@ -171,9 +202,26 @@ public abstract class StreamIterator<T> implements Iterator<T> {
             }
         }
 
+        this.close();
         return maxObject;
     }
 
+    public T firstBy(Predicate<? super T> filter) {
+        T first = null;
+
+        while (this.hasNext()) {
+            T object = this.next();
+
+            if (filter.apply(object)) {
+                first = object;
+                break;
+            }
+        }
+
+        this.close();
+        return first;
+    }
+
 
     public <F> StreamIterator<F> map(Function<? super T, ? extends F> transformation) {
         return new MappingIterator<>(this, transformation);
@@ -9,6 +9,14 @@ public class Vector2 {
         );
     }
 
+    // Like polar() but writes into out instead of allocating
+    public static Vector2 polar(float length, float angle, Vector2 out) {
+        return out.set(
+                (float) Math.cos(MathUtils.toRadians(angle)) * length,
+                (float) Math.sin(MathUtils.toRadians(angle)) * length
+        );
+    }
+
     public static Vector2 add(Vector2 a, Vector2 b) {
         return new Vector2(a.x + b.x, a.y + b.y);
     }
@@ -21,6 +29,11 @@ public class Vector2 {
         return new Vector2(b.x - a.x, b.y - a.y);
     }
 
+    // Like to() but writes into out instead of allocating
+    public static Vector2 to(Vector2 a, Vector2 b, Vector2 out) {
+        return out.set(b.x - a.x, b.y - a.y);
+    }
+
     public static Vector2 mul(Vector2 v, float s) {
         return new Vector2(v.x * s, v.y * s);
     }
@@ -38,6 +51,16 @@ public class Vector2 {
         this.y = y;
     }
 
+    public Vector2 set(float x, float y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    public Vector2 set(Vector2 v) {
+        return set(v.x, v.y);
+    }
+
     public float x() {
         return x;
     }
@@ -53,6 +76,13 @@ public class Vector2 {
         return this;
     }
 
+    // Like sub() but overwrites the source object instead of allocating
+    public Vector2 sub(Vector2 v) {
+        this.x = this.x - v.x;
+        this.y = this.y - v.y;
+        return this;
+    }
+
     // Like mul() but overwrites the source object instead of allocating
     public Vector2 mul(float s) {
         this.x = this.x * s;
@@ -102,17 +132,29 @@ public class Vector2 {
         return len(v.x - this.x, v.y - this.y);
     }
 
+    // cheaper than distanceTo() for comparisons against a squared range
+    public float distanceSquaredTo(Vector2 v) {
+        float dx = v.x - this.x;
+        float dy = v.y - this.y;
+        return dx * dx + dy * dy;
+    }
+
     // equivalent to v.to(x).angle()
     public float angleTo(Vector2 v) {
         return angle(v.x - this.x, v.y - this.y);
     }
 
     public Vector2 directionTo(Vector2 v) {
-        Vector2 to = Vector2.to(this, v);
-        float len = to.len();
-        to.x /= len;
-        to.y /= len;
-        return to;
+        return directionTo(v, new Vector2());
+    }
+
+    // Like directionTo() but writes into out instead of allocating
+    public Vector2 directionTo(Vector2 v, Vector2 out) {
+        Vector2.to(this, v, out);
+        float len = out.len();
+        out.x /= len;
+        out.y /= len;
+        return out;
     }
 
     @Override
@@ -20,6 +20,7 @@ import ch.logixisland.anuto.business.game.GameLoader;
 import ch.logixisland.anuto.business.game.GameSaver;
 import ch.logixisland.anuto.business.tower.TowerSelector;
 import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.loop.MetricsManager;
 import ch.logixisland.anuto.engine.theme.ActivityType;
 import ch.logixisland.anuto.view.AnutoActivity;
 import ch.logixisland.anuto.view.ApplySafeInsetsHandler;
@@ -33,6 +34,7 @@ public class GameActivity extends AnutoActivity {
     private final GameLoader mGameLoader;
     private final GameSaver mGameSaver;
     private final GameEngine mGameEngine;
+    private final MetricsManager mMetricsManager;
     private final TowerSelector mTowerSelector;
     private final BackButtonControl mBackButtonControl;
 
@@ -45,6 +47,7 @@ public class GameActivity extends AnutoActivity {
         mGameLoader = factory.getGameLoader();
         mGameSaver = factory.getGameSaver();
         mGameEngine = factory.getGameEngine();
+        mMetricsManager = factory.getMetricsManager();
         mTowerSelector = factory.getTowerSelector();
         mBackButtonControl = new BackButtonControl(AnutoApplication.getInstance());
     }
@@ -100,6 +103,7 @@ public class GameActivity extends AnutoActivity {
         super.onPause();
         mGameSaver.autoSaveGame();
         mGameEngine.stop();
+        mMetricsManager.dumpMetrics();
     }
 
     @Override
@@ -90,7 +90,7 @@ public class HeaderFragment extends AnutoFragment implements WaveManager.Listene
         txt_credits.setText(getString(R.string.credits) + ": " + StringUtils.formatSuffix(mScoreBoard.getCredits()));
         txt_lives.setText(getString(R.string.lives) + ": " + mScoreBoard.getLives());
         txt_bonus.setText(getString(R.string.bonus) + ": " + StringUtils.formatSuffix(mScoreBoard.getWaveBonus() + mScoreBoard.getEarlyBonus()));
-        btn_fast_forward_speed.setText(getString(R.string.var_speed, mGameSpeed.fastForwardMultiplier()));
+        updateButtonFastForwardSpeed();
         updateButtonFastForwardActive();
 
         final List<TowerView> towerViews = new ArrayList<>();
@@ -208,11 +208,24 @@ public class HeaderFragment extends AnutoFragment implements WaveManager.Listene
     @Override
     public void gameSpeedChanged() {
         mHandler.post(() -> {
-            btn_fast_forward_speed.setText(getString(R.string.var_speed, mGameSpeed.fastForwardMultiplier()));
+            updateButtonFastForwardSpeed();
             updateButtonFastForwardActive();
         });
     }
 
+    // shows the measured speed while fast forwarding, the selected speed otherwise
+    private void updateButtonFastForwardSpeed() {
+        int effectiveSpeed = mGameSpeed.getEffectiveSpeed();
+
+        if (mGameSpeed.isFastForwardActive() && effectiveSpeed > 0) {
+            btn_fast_forward_speed.setText(getString(R.string.var_speed, effectiveSpeed));
+        } else if (mGameSpeed.isMaxSpeed()) {
+            btn_fast_forward_speed.setText(getString(R.string.max_speed));
+        } else {
+            btn_fast_forward_speed.setText(getString(R.string.var_speed, mGameSpeed.fastForwardMultiplier()));
+        }
+    }
+
     private void updateButtonFastForwardActive() {
         if (mGameSpeed.isFastForwardActive()) {
             btn_fast_forward_active.setTextColor(mThemeManager.getTheme().getColor(R.attr.textActiveColor));
@@ -0,0 +1,71 @@
+package ch.logixisland.anuto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+
+public class BuildOrder {
+
+    enum Action {
+        BUILD,
+        ENHANCE,
+        UPGRADE
+    }
+
+    static class Step {
+        private final Action mAction;
+        private final int mPlateauIndex;
+        private final String mTowerName;
+        private final TowerStrategy mStrategy;
+
+        private Step(Action action, int plateauIndex, String towerName, TowerStrategy strategy) {
+            mAction = action;
+            mPlateauIndex = plateauIndex;
+            mTowerName = towerName;
+            mStrategy = strategy;
+        }
+
+        Action getAction() {
+            return mAction;
+        }
+
+        int getPlateauIndex() {
+            return mPlateauIndex;
+        }
+
+        String getTowerName() {
+            return mTowerName;
+        }
+
+        TowerStrategy getStrategy() {
+            return mStrategy;
+        }
+    }
+
+    private final List<Step> mSteps = new ArrayList<>();
+
+    public BuildOrder build(String towerName, int plateauIndex) {
+        return build(towerName, plateauIndex, TowerStrategy.Closest);
+    }
+
+    public BuildOrder build(String towerName, int plateauIndex, TowerStrategy strategy) {
+        mSteps.add(new Step(Action.BUILD, plateauIndex, towerName, strategy));
+        return this;
+    }
+
+    public BuildOrder enhance(int plateauIndex) {
+        mSteps.add(new Step(Action.ENHANCE, plateauIndex, null, null));
+        return this;
+    }
+
+    public BuildOrder upgrade(int plateauIndex) {
+        mSteps.add(new Step(Action.UPGRADE, plateauIndex, null, null));
+        return this;
+    }
+
+    List<Step> getSteps() {
+        return Collections.unmodifiableList(mSteps);
+    }
+}
@@ -0,0 +1,39 @@
+package ch.logixisland.anuto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import ch.logixisland.anuto.business.game.GameDataSource;
+import ch.logixisland.anuto.business.game.MapInfo;
+import ch.logixisland.anuto.util.container.KeyValueStore;
+
+// Reads the map and wave data from the raw resource files on disk, so simulations don't depend on
+// the resources of the Android runtime.
+public class FileGameDataSource implements GameDataSource {
+
+    private final File mDirectory;
+
+    public FileGameDataSource(File directory) {
+        mDirectory = directory;
+    }
+
+    @Override
+    public KeyValueStore getMapData(MapInfo mapInfo) {
+        return read("map_" + mapInfo.getMapId() + ".json");
+    }
+
+    @Override
+    public KeyValueStore getWaveData() {
+        return read("waves.json");
+    }
+
+    private KeyValueStore read(String fileName) {
+        try (InputStream stream = new FileInputStream(new File(mDirectory, fileName))) {
+            return KeyValueStore.fromStream(stream);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read " + fileName + "!", e);
+        }
+    }
+}
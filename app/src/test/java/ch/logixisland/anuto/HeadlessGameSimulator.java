@@ -0,0 +1,258 @@
+package ch.logixisland.anuto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.logixisland.anuto.business.game.GameState;
+import ch.logixisland.anuto.business.game.ScoreBoard;
+import ch.logixisland.anuto.business.tower.TowerControl;
+import ch.logixisland.anuto.business.tower.TowerInserter;
+import ch.logixisland.anuto.business.tower.TowerSelector;
+import ch.logixisland.anuto.business.wave.WaveManager;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.map.PlateauInfo;
+import ch.logixisland.anuto.entity.EntityTypes;
+import ch.logixisland.anuto.entity.enemy.Enemy;
+import ch.logixisland.anuto.entity.plateau.Plateau;
+import ch.logixisland.anuto.entity.tower.Aimer;
+import ch.logixisland.anuto.entity.tower.Tower;
+import ch.logixisland.anuto.util.RandomUtils;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Plays whole games without drawing or sound and as fast as possible, e.g. to compare build orders
+// or to check that a seed always gives the same game. Runs with the JVM unit tests, no device needed.
+public class HeadlessGameSimulator {
+
+    private static final int TICKS_PER_RUN = 1000;
+    private static final float PLATEAU_SEARCH_RANGE = 0.1f;
+
+    public static class Result {
+        private final int mWaveNumber;
+        private final int mScore;
+        private final int mLives;
+        private final int mTickCount;
+        private final int mStateHash;
+        private final long mElapsedNanos;
+
+        private Result(int waveNumber, int score, int lives, int tickCount, int stateHash, long elapsedNanos) {
+            mWaveNumber = waveNumber;
+            mScore = score;
+            mLives = lives;
+            mTickCount = tickCount;
+            mStateHash = stateHash;
+            mElapsedNanos = elapsedNanos;
+        }
+
+        public int getWaveNumber() {
+            return mWaveNumber;
+        }
+
+        public int getScore() {
+            return mScore;
+        }
+
+        public int getLives() {
+            return mLives;
+        }
+
+        public int getTickCount() {
+            return mTickCount;
+        }
+
+        public int getStateHash() {
+            return mStateHash;
+        }
+
+        public float getTicksPerSecond() {
+            return mTickCount * 1e9f / Math.max(mElapsedNanos, 1L);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("wave=%d; score=%d; lives=%d; ticks=%d; state=%08x; %.0f ticks/s",
+                    mWaveNumber, mScore, mLives, mTickCount, mStateHash, getTicksPerSecond());
+        }
+    }
+
+    private final GameFactory mGameFactory;
+
+    private List<BuildOrder.Step> mPendingSteps;
+    private List<Vector2> mPlateauPositions;
+
+    // expects a headless game factory (see GameFactory(Context, boolean))
+    public HeadlessGameSimulator(GameFactory gameFactory) {
+        mGameFactory = gameFactory;
+    }
+
+    public Result run(final String mapId, final long seed, BuildOrder buildOrder, int maxTicks) {
+        final GameEngine gameEngine = mGameFactory.getGameEngine();
+        final GameState gameState = mGameFactory.getGameState();
+
+        mPendingSteps = new ArrayList<>(buildOrder.getSteps());
+
+        // seed on the game thread so that messages left over from a previous run can't consume random numbers
+        gameEngine.post(() -> {
+            RandomUtils.setSeed(seed);
+            mGameFactory.getGameLoader().loadMap(mapId);
+            initPlateauPositions();
+            gameEngine.add(this::tick);
+        });
+
+        int tickCount = 0;
+        long startTime = System.nanoTime();
+
+        while (tickCount < maxTicks && !gameState.isGameOver()) {
+            int ticks = Math.min(TICKS_PER_RUN, maxTicks - tickCount);
+            gameEngine.runTicks(ticks);
+            tickCount += ticks;
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        ScoreBoard scoreBoard = mGameFactory.getScoreBoard();
+
+        return new Result(
+                mGameFactory.getWaveManager().getWaveNumber(),
+                scoreBoard.getScore(),
+                scoreBoard.getLives(),
+                tickCount,
+                computeStateHash(),
+                elapsedNanos
+        );
+    }
+
+    // covers the exact position of all entities and the health of the enemies
+    private int computeStateHash() {
+        StreamIterator<Entity> entities = mGameFactory.getGameEngine().getAllEntities();
+        int hash = 1;
+
+        while (entities.hasNext()) {
+            Entity entity = entities.next();
+            hash = 31 * hash + entity.getEntityType();
+            hash = 31 * hash + Float.floatToIntBits(entity.getPosition().x());
+            hash = 31 * hash + Float.floatToIntBits(entity.getPosition().y());
+
+            if (entity instanceof Enemy) {
+                hash = 31 * hash + Float.floatToIntBits(((Enemy) entity).getHealth());
+            }
+        }
+
+        return hash;
+    }
+
+    private void initPlateauPositions() {
+        mPlateauPositions = new ArrayList<>();
+
+        for (PlateauInfo info : mGameFactory.getGameEngine().getGameMap().getPlateaus()) {
+            mPlateauPositions.add(info.getPosition());
+        }
+    }
+
+    private void tick() {
+        if (mGameFactory.getGameState().isGameOver()) {
+            return;
+        }
+
+        while (!mPendingSteps.isEmpty() && executeStep(mPendingSteps.get(0))) {
+            mPendingSteps.remove(0);
+        }
+
+        WaveManager waveManager = mGameFactory.getWaveManager();
+
+        if (waveManager.isNextWaveReady()) {
+            waveManager.startNextWave();
+        }
+    }
+
+    // returns false if the step has to be retried later (e.g. not enough credits yet)
+    private boolean executeStep(BuildOrder.Step step) {
+        if (step.getPlateauIndex() >= mPlateauPositions.size()) {
+            return true;
+        }
+
+        Vector2 position = mPlateauPositions.get(step.getPlateauIndex());
+
+        switch (step.getAction()) {
+            case BUILD:
+                return buildTower(step, position);
+
+            case ENHANCE:
+            case UPGRADE:
+                return modifyTower(step, position);
+        }
+
+        return true;
+    }
+
+    private boolean buildTower(BuildOrder.Step step, Vector2 position) {
+        final TowerInserter towerInserter = mGameFactory.getTowerInserter();
+        final ScoreBoard scoreBoard = mGameFactory.getScoreBoard();
+
+        Plateau plateau = (Plateau) mGameFactory.getGameEngine()
+                .getEntitiesInRange(EntityTypes.PLATEAU, position, PLATEAU_SEARCH_RANGE)
+                .first();
+
+        if (plateau == null || plateau.isOccupied()) {
+            return true;
+        }
+
+        int credits = scoreBoard.getCredits();
+        towerInserter.insertTower(step.getTowerName());
+        towerInserter.setPosition(position);
+        towerInserter.buyTower();
+
+        if (scoreBoard.getCredits() == credits) {
+            return false;
+        }
+
+        // set the strategy explicitly because Aimer remembers the last one used as default
+        Tower tower = getTowerAt(position);
+        Aimer aimer = tower != null ? tower.getAimer() : null;
+
+        if (aimer != null) {
+            aimer.setStrategy(step.getStrategy());
+            aimer.setLockTarget(true);
+        }
+
+        return true;
+    }
+
+    private boolean modifyTower(BuildOrder.Step step, Vector2 position) {
+        final TowerSelector towerSelector = mGameFactory.getTowerSelector();
+        final TowerControl towerControl = mGameFactory.getTowerControl();
+        final ScoreBoard scoreBoard = mGameFactory.getScoreBoard();
+
+        Tower tower = getTowerAt(position);
+
+        if (tower == null) {
+            return true;
+        }
+
+        if (step.getAction() == BuildOrder.Action.UPGRADE && !tower.isUpgradeable()) {
+            return true;
+        }
+
+        if (step.getAction() == BuildOrder.Action.ENHANCE && !tower.isEnhanceable()) {
+            return true;
+        }
+
+        int credits = scoreBoard.getCredits();
+        towerSelector.selectTower(tower);
+
+        if (step.getAction() == BuildOrder.Action.UPGRADE) {
+            towerControl.upgradeTower();
+        } else {
+            towerControl.enhanceTower();
+        }
+
+        towerSelector.selectTower(null);
+        return scoreBoard.getCredits() != credits;
+    }
+
+    private Tower getTowerAt(Vector2 position) {
+        return (Tower) mGameFactory.getGameEngine()
+                .getEntitiesInRange(EntityTypes.TOWER, position, PLATEAU_SEARCH_RANGE)
+                .first();
+    }
+}
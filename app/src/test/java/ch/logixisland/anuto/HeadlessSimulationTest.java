@@ -0,0 +1,90 @@
+package ch.logixisland.anuto;
+
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+
+import ch.logixisland.anuto.entity.tower.Canon;
+import ch.logixisland.anuto.entity.tower.GlueTower;
+import ch.logixisland.anuto.entity.tower.Mortar;
+import ch.logixisland.anuto.entity.tower.SimpleLaser;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class HeadlessSimulationTest {
+
+    private static final String TAG = HeadlessSimulationTest.class.getSimpleName();
+
+    private static final long SEED = 42L;
+    private static final int MAX_TICKS = 30 * 60 * 20;
+    private static final int PARALLEL_SENSE_WORKERS = 3;
+
+    // unit tests run in the module directory
+    private static final File RAW_DIRECTORY = new File("src/main/res/raw");
+
+    @Test
+    public void sameSeedGivesSameResult() {
+        GameFactory gameFactory = createGameFactory();
+        HeadlessGameSimulator simulator = new HeadlessGameSimulator(gameFactory);
+        String mapId = gameFactory.getMapRepository().getDefaultMapId();
+
+        HeadlessGameSimulator.Result first = simulator.run(mapId, SEED, createBuildOrder(), MAX_TICKS);
+        HeadlessGameSimulator.Result second = simulator.run(mapId, SEED, createBuildOrder(), MAX_TICKS);
+        Log.i(TAG, first.toString());
+        Log.i(TAG, second.toString());
+
+        assertEquals(first.getTickCount(), second.getTickCount());
+        assertEquals(first.getWaveNumber(), second.getWaveNumber());
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getLives(), second.getLives());
+        assertEquals(first.getStateHash(), second.getStateHash());
+    }
+
+    @Test
+    public void parallelSenseGivesSameResult() {
+        GameFactory gameFactory = createGameFactory();
+        HeadlessGameSimulator simulator = new HeadlessGameSimulator(gameFactory);
+        String mapId = gameFactory.getMapRepository().getDefaultMapId();
+
+        gameFactory.getGameEngine().setSenseWorkerCount(0);
+        HeadlessGameSimulator.Result serial = simulator.run(mapId, SEED, createBuildOrder(), MAX_TICKS);
+        gameFactory.getGameEngine().setSenseWorkerCount(PARALLEL_SENSE_WORKERS);
+        HeadlessGameSimulator.Result parallel = simulator.run(mapId, SEED, createBuildOrder(), MAX_TICKS);
+        Log.i(TAG, serial.toString());
+        Log.i(TAG, parallel.toString());
+
+        assertEquals(serial.getTickCount(), parallel.getTickCount());
+        assertEquals(serial.getWaveNumber(), parallel.getWaveNumber());
+        assertEquals(serial.getScore(), parallel.getScore());
+        assertEquals(serial.getLives(), parallel.getLives());
+        assertEquals(serial.getStateHash(), parallel.getStateHash());
+    }
+
+    private static GameFactory createGameFactory() {
+        return new GameFactory(InstrumentationRegistry.getInstrumentation().getTargetContext(),
+                new FileGameDataSource(RAW_DIRECTORY), true);
+    }
+
+    private static BuildOrder createBuildOrder() {
+        return new BuildOrder()
+                .build(Canon.ENTITY_NAME, 0)
+                .build(Canon.ENTITY_NAME, 1)
+                .build(SimpleLaser.ENTITY_NAME, 2, TowerStrategy.First)
+                .build(GlueTower.ENTITY_NAME, 3)
+                .enhance(0)
+                .build(Mortar.ENTITY_NAME, 4, TowerStrategy.Strongest)
+                .upgrade(1)
+                .enhance(2)
+                .upgrade(0);
+    }
+}
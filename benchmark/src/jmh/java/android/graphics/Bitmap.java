@@ -0,0 +1,5 @@
+package android.graphics;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class Bitmap {
+}
@@ -0,0 +1,8 @@
+package android.graphics;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class BitmapShader extends Shader {
+
+    public BitmapShader(Bitmap bitmap, TileMode tileX, TileMode tileY) {
+    }
+}
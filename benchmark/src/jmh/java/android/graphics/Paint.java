@@ -0,0 +1,21 @@
+package android.graphics;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class Paint {
+
+    private int mColor;
+    private Shader mShader;
+
+    public int getColor() {
+        return mColor;
+    }
+
+    public void setColor(int color) {
+        mColor = color;
+    }
+
+    public Shader setShader(Shader shader) {
+        mShader = shader;
+        return shader;
+    }
+}
@@ -0,0 +1,20 @@
+package android.graphics;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class RectF {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public RectF() {
+    }
+
+    public RectF(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+}
@@ -0,0 +1,11 @@
+package android.graphics;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class Shader {
+
+    public enum TileMode {
+        CLAMP,
+        REPEAT,
+        MIRROR
+    }
+}
@@ -0,0 +1,9 @@
+package android.os;
+
+// JVM replacement for the framework class, which only exists as a stub in android.jar
+public class Build {
+
+    public static class VERSION {
+        public static final int SDK_INT = 0;
+    }
+}
@@ -0,0 +1,160 @@
+package ch.logixisland.anuto.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ch.logixisland.anuto.GameSettings;
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.engine.logic.loop.FrameRateLogger;
+import ch.logixisland.anuto.engine.logic.loop.GameLoop;
+import ch.logixisland.anuto.engine.logic.loop.GameMetrics;
+import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
+import ch.logixisland.anuto.engine.logic.map.GameMap;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
+import ch.logixisland.anuto.engine.logic.map.PathRange;
+import ch.logixisland.anuto.engine.render.Renderer;
+import ch.logixisland.anuto.engine.render.Viewport;
+import ch.logixisland.anuto.engine.render.sprite.SpriteFactory;
+import ch.logixisland.anuto.engine.sound.SoundFactory;
+import ch.logixisland.anuto.engine.theme.ThemeManager;
+import ch.logixisland.anuto.entity.effect.AreaService;
+import ch.logixisland.anuto.entity.enemy.BenchmarkEnemy;
+import ch.logixisland.anuto.entity.enemy.EnemyPathIndex;
+import ch.logixisland.anuto.entity.tower.BenchmarkTower;
+import ch.logixisland.anuto.entity.tower.TargetingService;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.math.Vector2;
+
+// The engine set up the way GameFactory.initializeEngine does, on the map of SyntheticWorld.
+final class BenchmarkGame {
+
+    // the theme manager, sprite and sound factory need an Android context; the benchmark entities
+    // don't use them, so asking for them fails right away
+    private static final class BenchmarkEngine extends GameEngine {
+
+        BenchmarkEngine(EntityStore entityStore, MessageQueue messageQueue, Renderer renderer, GameLoop gameLoop) {
+            super(null, null, null, entityStore, messageQueue, renderer, gameLoop);
+        }
+
+        @Override
+        public ThemeManager getThemeManager() {
+            throw new UnsupportedOperationException("The benchmark has no theme manager!");
+        }
+
+        @Override
+        public SpriteFactory getSpriteFactory() {
+            throw new UnsupportedOperationException("The benchmark has no sprite factory!");
+        }
+
+        @Override
+        public SoundFactory getSoundFactory() {
+            throw new UnsupportedOperationException("The benchmark has no sound factory!");
+        }
+    }
+
+    private static final long SEED = 1234L;
+
+    private final EntityStore mEntityStore;
+    private final MessageQueue mMessageQueue;
+    private final GameEngine mGameEngine;
+    private final EnemyPathIndex mEnemyPathIndex;
+    private final TargetingService mTargetingService;
+
+    BenchmarkGame() {
+        mEntityStore = new EntityStore();
+        mEntityStore.setSenseWorkerCount(Math.min(GameSettings.MAX_SENSE_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+        mMessageQueue = new MessageQueue();
+        GameMetrics gameMetrics = new GameMetrics();
+        FrameRateLogger frameRateLogger = new FrameRateLogger(gameMetrics);
+        Renderer renderer = new Renderer(new Viewport(), frameRateLogger, gameMetrics);
+        GameLoop gameLoop = new GameLoop(renderer, frameRateLogger, mMessageQueue, mEntityStore, gameMetrics);
+        mGameEngine = new BenchmarkEngine(mEntityStore, mMessageQueue, renderer, gameLoop);
+        mEnemyPathIndex = new EnemyPathIndex(mGameEngine);
+        mTargetingService = new TargetingService(mGameEngine, mEnemyPathIndex);
+        mGameEngine.addService(mEnemyPathIndex);
+        mGameEngine.addService(mTargetingService);
+        mGameEngine.addService(new AreaService());
+        mGameEngine.setGameMap(createMap());
+    }
+
+    private static GameMap createMap() {
+        KeyValueStore path = new KeyValueStore();
+        path.putVectorList("wayPoints", SyntheticWorld.createPath());
+
+        KeyValueStore data = new KeyValueStore();
+        data.putInt("width", SyntheticWorld.WIDTH);
+        data.putInt("height", SyntheticWorld.HEIGHT);
+        data.appendStore("paths", path);
+        return new GameMap(data);
+    }
+
+    EnemyPathIndex getEnemyPathIndex() {
+        return mEnemyPathIndex;
+    }
+
+    TargetingService getTargetingService() {
+        return mTargetingService;
+    }
+
+    // the enemies are spread over the whole path
+    void addEnemies(int count) {
+        Random random = new Random(SEED);
+        MapPath path = mGameEngine.getGameMap().getPaths().get(0);
+
+        for (int i = 0; i < count; i++) {
+            BenchmarkEnemy enemy = new BenchmarkEnemy(mGameEngine,
+                    100 + random.nextInt(900), 0.5f + random.nextFloat());
+            enemy.place(path, 1 + random.nextInt(path.getWayPoints().size() - 1));
+            mEntityStore.add(enemy);
+        }
+
+        tick();
+    }
+
+    // towers are placed on the plateau rows between the path rows
+    List<BenchmarkTower> addTowers(TowerStrategy strategy, int count) {
+        List<BenchmarkTower> towers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            BenchmarkTower tower = new BenchmarkTower(mGameEngine, strategy, SyntheticWorld.TOWER_RANGE);
+            tower.setPosition(getTowerPosition(i));
+            mEntityStore.add(tower);
+            towers.add(tower);
+        }
+
+        return towers;
+    }
+
+    List<PathRange> createTowerRanges(int count) {
+        List<PathRange> ranges = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            ranges.add(new PathRange(mGameEngine.getGameMap(), getTowerPosition(i), SyntheticWorld.TOWER_RANGE));
+        }
+
+        return ranges;
+    }
+
+    private static Vector2 getTowerPosition(int index) {
+        return new Vector2((index * 3) % SyntheticWorld.WIDTH, 1 + 3 * ((index / 4) % (SyntheticWorld.HEIGHT / 3)));
+    }
+
+    // the entity part of GameLoop.executeTick()
+    void tick() {
+        mMessageQueue.tick();
+        mEntityStore.tick();
+        mEntityStore.compact();
+    }
+
+    // starts a new tick without moving anything, so the next query rebuilds the per tick state
+    void skipTick() {
+        mMessageQueue.tick();
+    }
+
+    void shutdown() {
+        mEntityStore.setSenseWorkerCount(0);
+    }
+}
@@ -0,0 +1,75 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.engine.logic.map.PathRange;
+import ch.logixisland.anuto.entity.enemy.EnemyPathIndex;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemyPathIndexBenchmark {
+
+    private static final int TOWER_COUNT = 30;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mEnemyCount;
+
+    private BenchmarkGame mGame;
+    private EnemyPathIndex mEnemyPathIndex;
+    private List<PathRange> mRanges;
+
+    @Setup
+    public void setup() {
+        mGame = new BenchmarkGame();
+        mGame.addEnemies(mEnemyCount);
+        mEnemyPathIndex = mGame.getEnemyPathIndex();
+        mRanges = mGame.createTowerRanges(TOWER_COUNT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mGame.shutdown();
+    }
+
+    // the enemies move, so the first query repairs the order
+    @Benchmark
+    public void tickAndFindFirst(Blackhole blackhole) {
+        mGame.tick();
+
+        for (PathRange range : mRanges) {
+            blackhole.consume(mEnemyPathIndex.findFirst(range, null));
+        }
+    }
+
+    // nothing moves, so only the queries and the refresh of the path progress are measured
+    @Benchmark
+    public void findFirst(Blackhole blackhole) {
+        mGame.skipTick();
+
+        for (PathRange range : mRanges) {
+            blackhole.consume(mEnemyPathIndex.findFirst(range, null));
+        }
+    }
+
+    @Benchmark
+    public void findLast(Blackhole blackhole) {
+        mGame.skipTick();
+
+        for (PathRange range : mRanges) {
+            blackhole.consume(mEnemyPathIndex.findLast(range, null));
+        }
+    }
+}
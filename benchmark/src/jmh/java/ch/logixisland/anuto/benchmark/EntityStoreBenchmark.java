@@ -0,0 +1,40 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityStoreBenchmark {
+
+    private static final int TOWER_COUNT = 30;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mEnemyCount;
+
+    private EntityStore mEntityStore;
+
+    @Setup
+    public void setup() {
+        mEntityStore = SyntheticWorld.createStore();
+        SyntheticWorld.addEnemies(mEntityStore, SyntheticWorld.createPath(), mEnemyCount);
+        SyntheticWorld.addTowers(mEntityStore, TowerStrategy.Closest, TOWER_COUNT);
+    }
+
+    @Benchmark
+    public void tick() {
+        mEntityStore.tick();
+    }
+}
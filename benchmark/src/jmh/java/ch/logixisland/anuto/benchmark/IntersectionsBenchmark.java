@@ -0,0 +1,45 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.util.math.Intersections;
+import ch.logixisland.anuto.util.math.Vector2;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IntersectionsBenchmark {
+
+    private List<Vector2> mPath;
+    private final List<Vector2> mPositions = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        mPath = SyntheticWorld.createPath();
+
+        for (int x = 0; x < SyntheticWorld.WIDTH; x++) {
+            for (int y = 0; y < SyntheticWorld.HEIGHT; y++) {
+                mPositions.add(new Vector2(x, y));
+            }
+        }
+    }
+
+    // what the tower placement preview computes for every plateau of a map
+    @Benchmark
+    public void getPathSectionsInRange(Blackhole blackhole) {
+        for (Vector2 position : mPositions) {
+            blackhole.consume(Intersections.getPathSectionsInRange(mPath, position, SyntheticWorld.TOWER_RANGE));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.util.container.KeyValueStore;
+import ch.logixisland.anuto.util.container.KeyValueWriter;
+import ch.logixisland.anuto.util.math.Vector2;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyValueStoreBenchmark {
+
+    private static final int TOWER_COUNT = 30;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mEnemyCount;
+
+    @Param({"json", "binary"})
+    public String mFormat;
+
+    private KeyValueStore mGameState;
+    private byte[] mSerialized;
+
+    @Setup
+    public void setup() {
+        mGameState = createGameState();
+        mSerialized = serialize(mGameState, mFormat);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serialize(createGameState(), mFormat);
+    }
+
+    @Benchmark
+    public KeyValueStore deserialize() {
+        return KeyValueStore.fromStream(new ByteArrayInputStream(mSerialized));
+    }
+
+    private static byte[] serialize(KeyValueStore gameState, String format) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        KeyValueWriter writer = format.equals("binary")
+                ? KeyValueWriter.createBinaryWriter(output)
+                : KeyValueWriter.createJsonWriter(output);
+        writer.beginStore();
+        writer.putAll(gameState);
+        writer.endStore();
+        writer.flush();
+
+        return output.toByteArray();
+    }
+
+    // mirrors what EntityPersister, EnemyPersister and TowerPersister write for a late game
+    private KeyValueStore createGameState() {
+        List<Vector2> path = SyntheticWorld.createPath();
+        KeyValueStore gameState = new KeyValueStore();
+        gameState.putInt("version", 3);
+        gameState.putString("mapId", "original");
+        gameState.putInt("tickCount", 123456);
+
+        for (int i = 0; i < mEnemyCount; i++) {
+            KeyValueStore enemy = new KeyValueStore();
+            enemy.putInt("id", i);
+            enemy.putString("name", "soldier");
+            enemy.putVector("position", path.get(i % path.size()));
+            enemy.putFloat("health", 500f);
+            enemy.putFloat("maxHealth", 1000f);
+            enemy.putInt("pathIndex", 0);
+            enemy.putInt("wayPointIndex", 1 + i % (path.size() - 1));
+            enemy.putInt("waveNumber", 80);
+            enemy.putInt("reward", 25);
+            enemy.putBoolean("teleported", false);
+            gameState.appendStore("entities", enemy);
+        }
+
+        for (int i = 0; i < TOWER_COUNT; i++) {
+            KeyValueStore tower = new KeyValueStore();
+            tower.putInt("id", mEnemyCount + i);
+            tower.putString("name", "canon");
+            tower.putVector("position", new Vector2(i % SyntheticWorld.WIDTH, i / SyntheticWorld.WIDTH));
+            tower.putInt("plateauId", i);
+            tower.putInt("value", 1000);
+            tower.putInt("level", 3);
+            tower.putFloat("damageInflicted", 123456f);
+            tower.putString("strategy", "Closest");
+            tower.putBoolean("lockTarget", true);
+            gameState.appendStore("entities", tower);
+        }
+
+        return gameState;
+    }
+}
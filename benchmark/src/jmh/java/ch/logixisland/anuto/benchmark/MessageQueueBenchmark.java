@@ -0,0 +1,60 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.engine.logic.loop.Message;
+import ch.logixisland.anuto.engine.logic.loop.MessageQueue;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageQueueBenchmark {
+
+    // spawn delays of an extended wave are spread over about a minute
+    private static final int MAX_DELAY_TICKS = 30 * 60;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mMessageCount;
+
+    private int[] mDelays;
+    private int mExecutedCount;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1234L);
+        mDelays = new int[mMessageCount];
+
+        for (int i = 0; i < mMessageCount; i++) {
+            mDelays[i] = random.nextInt(MAX_DELAY_TICKS);
+        }
+    }
+
+    // posts one message per enemy like WaveAttender.scheduleEnemies() and runs until all are executed
+    @Benchmark
+    public void postAndProcess(Blackhole blackhole) {
+        MessageQueue messageQueue = new MessageQueue();
+        Message message = () -> mExecutedCount++;
+
+        for (int delay : mDelays) {
+            messageQueue.postAfterTicks(message, delay);
+        }
+
+        for (int i = 0; i <= MAX_DELAY_TICKS; i++) {
+            messageQueue.tick();
+            messageQueue.processMessages();
+        }
+
+        blackhole.consume(mExecutedCount);
+    }
+}
@@ -0,0 +1,95 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.util.container.SafeCollection;
+import ch.logixisland.anuto.util.iterator.FloatScore;
+import ch.logixisland.anuto.util.iterator.Predicate;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SafeCollectionBenchmark {
+
+    // every n-th element is removed during iteration, like killed enemies or finished shots
+    private static final int REMOVE_EVERY = 10;
+
+    private static final Predicate<Integer> EVEN = value -> value % 2 == 0;
+    private static final FloatScore<Integer> NEGATED = value -> -value;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mSize;
+
+    private SafeCollection<Integer> mCollection;
+
+    @Setup
+    public void setup() {
+        mCollection = new SafeCollection<>();
+
+        for (int i = 0; i < mSize; i++) {
+            mCollection.add(i);
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer value : mCollection) {
+            blackhole.consume(value);
+        }
+    }
+
+    // removed elements are added again at the end so the size stays constant
+    @Benchmark
+    public void iterateWithRemoval(Blackhole blackhole) {
+        StreamIterator<Integer> iterator = mCollection.iterator();
+        int index = 0;
+
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            blackhole.consume(value);
+
+            if (index++ % REMOVE_EVERY == 0) {
+                mCollection.remove(value);
+                mCollection.add(value);
+            }
+        }
+
+        // the game loop compacts its collections between ticks
+        mCollection.compact();
+    }
+
+    // inner iterators are abandoned before they are drained
+    @Benchmark
+    public void nestedIteration(Blackhole blackhole) {
+        StreamIterator<Integer> outer = mCollection.iterator();
+
+        for (int i = 0; i < REMOVE_EVERY && outer.hasNext(); i++) {
+            blackhole.consume(mCollection.iterator().filter(value -> value % REMOVE_EVERY == 0).first());
+            blackhole.consume(outer.next());
+        }
+
+        outer.close();
+    }
+
+    @Benchmark
+    public Integer filterThenMin() {
+        return mCollection.iterator().filter(EVEN).min(NEGATED);
+    }
+
+    // same result in one pass without a filtering iterator
+    @Benchmark
+    public Integer minBy() {
+        return mCollection.iterator().minBy(EVEN, NEGATED);
+    }
+}
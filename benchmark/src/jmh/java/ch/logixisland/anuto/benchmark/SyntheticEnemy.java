@@ -0,0 +1,80 @@
+package ch.logixisland.anuto.benchmark;
+
+import java.util.List;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.util.iterator.FloatScore;
+import ch.logixisland.anuto.util.math.Vector2;
+
+// Moves along a path like Enemy, but without sprites, health bar or game engine.
+class SyntheticEnemy extends Entity {
+
+    static final int ENTITY_TYPE = 2;
+
+    static FloatScore<SyntheticEnemy> health() {
+        return input -> input.mHealth;
+    }
+
+    static FloatScore<SyntheticEnemy> distanceRemaining() {
+        return SyntheticEnemy::getDistanceRemaining;
+    }
+
+    private final List<Vector2> mWayPoints;
+    private final float mSpeed;
+    private final Vector2 mStep = new Vector2();
+    private float mHealth;
+    private int mWayPointIndex;
+
+    SyntheticEnemy(List<Vector2> wayPoints, int wayPointIndex, float speed, float health) {
+        super(null);
+        mWayPoints = wayPoints;
+        mWayPointIndex = wayPointIndex;
+        mSpeed = speed;
+        mHealth = health;
+        setPosition(wayPoints.get(wayPointIndex - 1));
+    }
+
+    @Override
+    public int getEntityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void tick() {
+        // restart at the beginning instead of being removed, to keep the population constant
+        if (mWayPointIndex >= mWayPoints.size()) {
+            mWayPointIndex = 1;
+            setPosition(mWayPoints.get(0));
+            return;
+        }
+
+        Vector2 wayPoint = mWayPoints.get(mWayPointIndex);
+        float stepSize = mSpeed / GameEngine.TARGET_FRAME_RATE;
+
+        if (getDistanceTo(wayPoint) >= stepSize) {
+            move(getPosition().directionTo(wayPoint, mStep).mul(stepSize));
+        } else {
+            setPosition(wayPoint);
+            mWayPointIndex++;
+        }
+    }
+
+    float getHealth() {
+        return mHealth;
+    }
+
+    private float getDistanceRemaining() {
+        if (mWayPointIndex >= mWayPoints.size()) {
+            return 0;
+        }
+
+        float dist = getDistanceTo(mWayPoints.get(mWayPointIndex));
+
+        for (int i = mWayPointIndex + 1; i < mWayPoints.size(); i++) {
+            dist += mWayPoints.get(i - 1).distanceTo(mWayPoints.get(i));
+        }
+
+        return dist;
+    }
+}
@@ -0,0 +1,75 @@
+package ch.logixisland.anuto.benchmark;
+
+import ch.logixisland.anuto.engine.logic.entity.Entity;
+import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.engine.logic.loop.TickTimer;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+import ch.logixisland.anuto.util.iterator.StreamIterator;
+
+// Scans the enemies in range for a target as load for the EntityStoreBenchmark. The production
+// targeting runs through the TargetingService and is measured by the TargetingBenchmark.
+class SyntheticTower extends Entity {
+
+    static final int ENTITY_TYPE = 3;
+
+    private final EntityStore mEntityStore;
+    private final TowerStrategy mStrategy;
+    private final float mRange;
+    private final TickTimer mUpdateTimer = TickTimer.createInterval(0.1f);
+
+    private SyntheticEnemy mTarget;
+
+    SyntheticTower(EntityStore entityStore, TowerStrategy strategy, float range) {
+        super(null);
+        mEntityStore = entityStore;
+        mStrategy = strategy;
+        mRange = range;
+    }
+
+    @Override
+    public int getEntityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void tick() {
+        if (mUpdateTimer.tick()) {
+            nextTarget();
+        }
+    }
+
+    SyntheticEnemy getTarget() {
+        return mTarget;
+    }
+
+    SyntheticEnemy nextTarget() {
+        switch (mStrategy) {
+            case Closest:
+                mTarget = getPossibleTargets().min(Entity.distanceTo(getPosition()));
+                break;
+
+            case Strongest:
+                mTarget = getPossibleTargets().max(SyntheticEnemy.health());
+                break;
+
+            case Weakest:
+                mTarget = getPossibleTargets().min(SyntheticEnemy.health());
+                break;
+
+            case First:
+                mTarget = getPossibleTargets().min(SyntheticEnemy.distanceRemaining());
+                break;
+
+            case Last:
+                mTarget = getPossibleTargets().max(SyntheticEnemy.distanceRemaining());
+                break;
+        }
+
+        return mTarget;
+    }
+
+    private StreamIterator<SyntheticEnemy> getPossibleTargets() {
+        return mEntityStore.getInRange(SyntheticEnemy.ENTITY_TYPE, getPosition(), mRange)
+                .cast(SyntheticEnemy.class);
+    }
+}
@@ -0,0 +1,70 @@
+package ch.logixisland.anuto.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ch.logixisland.anuto.engine.logic.entity.EntityStore;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+import ch.logixisland.anuto.util.math.Vector2;
+
+final class SyntheticWorld {
+
+    static final int WIDTH = 10;
+    static final int HEIGHT = 15;
+    static final float TOWER_RANGE = 3.5f;
+
+    private static final long SEED = 1234L;
+
+    private SyntheticWorld() {
+    }
+
+    // a path that winds through the whole map, similar to the original map
+    static List<Vector2> createPath() {
+        List<Vector2> wayPoints = new ArrayList<>();
+        wayPoints.add(new Vector2(0, -2));
+
+        for (int y = 0; y < HEIGHT; y += 3) {
+            boolean leftToRight = (y / 3) % 2 == 0;
+            wayPoints.add(new Vector2(leftToRight ? 0 : WIDTH - 1, y));
+            wayPoints.add(new Vector2(leftToRight ? WIDTH - 1 : 0, y));
+        }
+
+        return wayPoints;
+    }
+
+    static EntityStore createStore() {
+        EntityStore entityStore = new EntityStore();
+        entityStore.setGameSize(WIDTH, HEIGHT);
+        return entityStore;
+    }
+
+    static List<SyntheticEnemy> addEnemies(EntityStore entityStore, List<Vector2> path, int count) {
+        Random random = new Random(SEED);
+        List<SyntheticEnemy> enemies = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int wayPointIndex = 1 + random.nextInt(path.size() - 1);
+            SyntheticEnemy enemy = new SyntheticEnemy(path, wayPointIndex,
+                    0.5f + random.nextFloat(), 100f + random.nextFloat() * 900f);
+            entityStore.add(enemy);
+            enemies.add(enemy);
+        }
+
+        return enemies;
+    }
+
+    // towers are placed on the plateau rows between the path rows
+    static List<SyntheticTower> addTowers(EntityStore entityStore, TowerStrategy strategy, int count) {
+        List<SyntheticTower> towers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            SyntheticTower tower = new SyntheticTower(entityStore, strategy, TOWER_RANGE);
+            tower.setPosition(new Vector2((i * 3) % WIDTH, 1 + 3 * ((i / 4) % (HEIGHT / 3))));
+            entityStore.add(tower);
+            towers.add(tower);
+        }
+
+        return towers;
+    }
+}
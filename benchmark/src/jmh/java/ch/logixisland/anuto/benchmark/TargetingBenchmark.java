@@ -0,0 +1,67 @@
+package ch.logixisland.anuto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ch.logixisland.anuto.entity.tower.BenchmarkTower;
+import ch.logixisland.anuto.entity.tower.TargetingService;
+import ch.logixisland.anuto.entity.tower.TowerStrategy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TargetingBenchmark {
+
+    private static final int TOWER_COUNT = 30;
+
+    @Param({"10", "100", "1000", "5000"})
+    public int mEnemyCount;
+
+    @Param({"Closest", "Weakest", "Strongest", "First", "Last"})
+    public TowerStrategy mStrategy;
+
+    private BenchmarkGame mGame;
+    private TargetingService mTargetingService;
+    private List<BenchmarkTower> mTowers;
+
+    @Setup
+    public void setup() {
+        mGame = new BenchmarkGame();
+        mGame.addEnemies(mEnemyCount);
+        mTowers = mGame.addTowers(mStrategy, TOWER_COUNT);
+        mTargetingService = mGame.getTargetingService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mGame.shutdown();
+    }
+
+    // every tower searching for a new target once in a new tick, including the per tick
+    // snapshot and index update
+    @Benchmark
+    public void findTarget(Blackhole blackhole) {
+        mGame.skipTick();
+
+        for (BenchmarkTower tower : mTowers) {
+            blackhole.consume(mTargetingService.findTarget(tower, mStrategy));
+        }
+    }
+
+    // one game tick: the enemies move and the towers aim in the sense phase
+    @Benchmark
+    public void tick() {
+        mGame.tick();
+    }
+}
@@ -0,0 +1,19 @@
+package ch.logixisland.anuto.engine.theme;
+
+// A theme without resources, which are not available on a plain JVM.
+public class BenchmarkTheme extends Theme {
+
+    public BenchmarkTheme() {
+        super(null, 0, 0);
+    }
+
+    @Override
+    public int getColor(int attrId) {
+        return 0;
+    }
+
+    @Override
+    public int getResourceId(int attrId) {
+        return 0;
+    }
+}
@@ -0,0 +1,53 @@
+package ch.logixisland.anuto.entity.enemy;
+
+import android.graphics.Canvas;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+import ch.logixisland.anuto.engine.logic.map.MapPath;
+import ch.logixisland.anuto.engine.theme.BenchmarkTheme;
+import ch.logixisland.anuto.engine.theme.Theme;
+
+// A real enemy without sprites, which starts over at the end of its path instead of finishing, to
+// keep the population constant.
+public class BenchmarkEnemy extends Enemy {
+
+    private static final Theme THEME = new BenchmarkTheme();
+
+    public BenchmarkEnemy(GameEngine gameEngine, int health, float speed) {
+        super(gameEngine, new EnemyProperties.Builder()
+                .setHealth(health)
+                .setSpeed(speed)
+                .build());
+    }
+
+    // the enemy walks from the previous way point to the given one
+    public void place(MapPath path, int wayPointIndex) {
+        setPosition(path.getWayPoints().get(wayPointIndex - 1));
+        setupPath(path, wayPointIndex);
+    }
+
+    @Override
+    public void tick() {
+        if (!hasWayPoint()) {
+            place(getPath(), 1);
+            return;
+        }
+
+        super.tick();
+    }
+
+    @Override
+    public int getTextId() {
+        return 0;
+    }
+
+    @Override
+    public void drawPreview(Canvas canvas) {
+
+    }
+
+    @Override
+    protected Theme getTheme() {
+        return THEME;
+    }
+}
@@ -0,0 +1,47 @@
+package ch.logixisland.anuto.entity.tower;
+
+import android.graphics.Canvas;
+
+import java.util.Collections;
+import java.util.List;
+
+import ch.logixisland.anuto.engine.logic.GameEngine;
+
+// A real tower without sprites or weapon, which only aims. It does not lock its target, so it
+// asks the TargetingService for a new one whenever its aimer updates.
+public class BenchmarkTower extends Tower {
+
+    private final Aimer mAimer;
+
+    public BenchmarkTower(GameEngine gameEngine, TowerStrategy strategy, float range) {
+        super(gameEngine, new TowerProperties.Builder()
+                .setRange(range)
+                .setReload(1f)
+                .build());
+
+        mAimer = new Aimer(this);
+        mAimer.setStrategy(strategy);
+        mAimer.setLockTarget(false);
+    }
+
+    @Override
+    public Aimer getAimer() {
+        return mAimer;
+    }
+
+    @Override
+    public void tick() {
+        super.tick();
+        mAimer.tick();
+    }
+
+    @Override
+    public void preview(Canvas canvas) {
+
+    }
+
+    @Override
+    public List<TowerInfoValue> getTowerInfoValues() {
+        return Collections.emptyList();
+    }
+}